@@ -0,0 +1,186 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.harvest.BlockBreakBatch;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.mojang.authlib.GameProfile;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.common.util.FakePlayerFactory;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Three by three tunnels dug with greathammers.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class AreaMiningTests {
+    private static final int MINING_CREW = 8;
+    private static final int TUNNEL_DEPTH = 20;
+
+    private AreaMiningTests() {}
+
+    /**
+     * A crew of {@value #MINING_CREW} players digs three by three tunnels into stone with steel greathammers, every
+     * player swinging every tick. They are fake players in survival so that drops are real. The tunnels are then
+     * filled in and dug again with the crew sneaking, which turns area mining off, each player breaking the nine
+     * blocks of the face one by one. Both runs count the item entities spawned and the durability changes made on
+     * the hammers, and are reported as {@code area_mining} and {@code area_mining_unbatched}.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "stress_area_mining", timeoutTicks = 2 * TUNNEL_DEPTH + 100)
+    public static void areaMining(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        fillTunnels(helper);
+        Item greathammer = StressTests.variantItem(WeaponType.GREATHAMMER, Metal.STEEL);
+        List<ServerPlayer> crew = new ArrayList<>();
+        for (int i = 0; i < MINING_CREW; i++) {
+            ServerPlayer player = FakePlayerFactory.get(level, new GameProfile(UUID.nameUUIDFromBytes(("miner" + i).getBytes()), "miner" + i));
+            player.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(greathammer));
+            crew.add(player);
+        }
+
+        AABB bounds = helper.getBounds().inflate(2);
+        long[] itemEntities = new long[1];
+        Consumer<EntityJoinLevelEvent> itemCounter = event -> {
+            if (event.getLevel() == level && event.getEntity() instanceof ItemEntity && !event.loadedFromDisk()
+                    && bounds.contains(event.getEntity().position())) {
+                itemEntities[0]++;
+            }
+        };
+        NeoForge.EVENT_BUS.addListener(EventPriority.LOWEST, true, EntityJoinLevelEvent.class, itemCounter);
+
+        // the hammer's damage is checked after each swing, and also from the swing's break event once area mining
+        // has worn it, since the swing itself wears it again afterwards
+        Map<ServerPlayer, Integer> lastDamage = new HashMap<>();
+        long[] durabilityChanges = new long[1];
+        Consumer<ServerPlayer> checkDurability = player -> {
+            int damage = player.getMainHandItem().getDamageValue();
+            Integer last = lastDamage.put(player, damage);
+            if (last != null && last != damage) {
+                durabilityChanges[0]++;
+            }
+        };
+        Consumer<BlockEvent.BreakEvent> breakChecker = event -> {
+            if (!BlockBreakBatch.isPosting() && event.getPlayer() instanceof ServerPlayer player && crew.contains(player)) {
+                checkDurability.accept(player);
+            }
+        };
+        crew.forEach(checkDurability);
+        NeoForge.EVENT_BUS.addListener(EventPriority.LOWEST, BlockEvent.BreakEvent.class, breakChecker);
+
+        StressRecorder[] recorder = {StressRecorder.start("area_mining")};
+        helper.onEachTick(() -> {
+            long tick = helper.getTick();
+            boolean batched = tick < TUNNEL_DEPTH;
+            long depth = batched ? tick : tick - TUNNEL_DEPTH - 1;
+            if (depth < 0 || depth >= TUNNEL_DEPTH) {
+                return;
+            }
+            for (int i = 0; i < crew.size(); i++) {
+                BlockPos face = new BlockPos(i * 3 + 1, 2, 2 + (int) depth);
+                Vec3 pos = helper.absoluteVec(new Vec3(face.getX() + 0.5, 1, face.getZ() - 1.5));
+                ServerPlayer player = crew.get(i);
+                player.moveTo(pos.x, pos.y, pos.z, 0, 0);
+                if (batched) {
+                    player.gameMode.destroyBlock(helper.absolutePos(face));
+                    checkDurability.accept(player);
+                    continue;
+                }
+                for (int y = -1; y <= 1; y++) {
+                    for (int x = -1; x <= 1; x++) {
+                        player.gameMode.destroyBlock(helper.absolutePos(face.offset(x, y, 0)));
+                        checkDurability.accept(player);
+                    }
+                }
+            }
+        });
+
+        helper.runAtTickTime(TUNNEL_DEPTH, () -> {
+            int mined = MINING_CREW * TUNNEL_DEPTH * 9 - stoneLeft(helper);
+            long swings = (long) MINING_CREW * TUNNEL_DEPTH;
+            helper.assertTrue(mined > swings, "The greathammers only mined the blocks they hit");
+            recorder[0].counter("crew", MINING_CREW)
+                    .counter("swings", swings)
+                    .counter("blocks_mined", mined)
+                    .counter("item_entities", itemEntities[0])
+                    .counter("durability_changes", durabilityChanges[0]);
+            recorder[0].stop(helper);
+
+            level.getEntitiesOfClass(ItemEntity.class, bounds).forEach(Entity::discard);
+            fillTunnels(helper);
+            for (ServerPlayer player : crew) {
+                player.setShiftKeyDown(true);
+                player.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(greathammer));
+            }
+            itemEntities[0] = 0;
+            durabilityChanges[0] = 0;
+            lastDamage.clear();
+            crew.forEach(checkDurability);
+            recorder[0] = StressRecorder.start("area_mining_unbatched");
+        });
+
+        helper.runAtTickTime(2 * TUNNEL_DEPTH + 1, () -> {
+            NeoForge.EVENT_BUS.unregister(itemCounter);
+            NeoForge.EVENT_BUS.unregister(breakChecker);
+            crew.forEach(player -> player.setShiftKeyDown(false));
+            recorder[0].counter("crew", MINING_CREW)
+                    .counter("swings", (long) MINING_CREW * TUNNEL_DEPTH * 9)
+                    .counter("blocks_mined", MINING_CREW * TUNNEL_DEPTH * 9 - stoneLeft(helper))
+                    .counter("item_entities", itemEntities[0])
+                    .counter("durability_changes", durabilityChanges[0]);
+            recorder[0].finish(helper);
+        });
+    }
+
+    private static void fillTunnels(GameTestHelper helper) {
+        BlockState stone = Blocks.STONE.defaultBlockState();
+        for (int i = 0; i < MINING_CREW; i++) {
+            for (int z = 0; z < TUNNEL_DEPTH; z++) {
+                for (int y = 1; y <= 3; y++) {
+                    for (int x = 0; x < 3; x++) {
+                        helper.setBlock(new BlockPos(i * 3 + x, y, 2 + z), stone);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int stoneLeft(GameTestHelper helper) {
+        int left = 0;
+        for (int i = 0; i < MINING_CREW; i++) {
+            for (int z = 0; z < TUNNEL_DEPTH; z++) {
+                for (int y = 1; y <= 3; y++) {
+                    for (int x = 0; x < 3; x++) {
+                        left += helper.getBlockState(new BlockPos(i * 3 + x, y, 2 + z)).is(Blocks.STONE) ? 1 : 0;
+                    }
+                }
+            }
+        }
+        return left;
+    }
+}
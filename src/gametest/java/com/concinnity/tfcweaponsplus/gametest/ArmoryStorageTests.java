@@ -0,0 +1,119 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.block.entity.ArmoryBlockEntity;
+import com.concinnity.tfcweaponsplus.block.menu.ArmoryMenu;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.network.ArmoryPagePayload;
+import com.concinnity.tfcweaponsplus.registration.BlockRegistry;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.NonNullList;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundContainerSetContentPacket;
+import net.minecraft.util.Mth;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Armory save and page sizes against vanilla storage.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class ArmoryStorageTests {
+    private static final int ARMORY_COPIES = 16;
+    private static final int ARMORY_WORN = 20;
+
+    private ArmoryStorageTests() {}
+
+    /**
+     * Fills an armory with {@value #ARMORY_COPIES} of every item plus some worn weapons, and compares its saved size
+     * against chests holding the same stacks, and one page sent to a viewer against a vanilla container refresh.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "stress_armory_storage")
+    public static void armoryStorage(GameTestHelper helper) {
+        helper.setBlock(BlockPos.ZERO.above(), BlockRegistry.ARMORY.get());
+        ArmoryBlockEntity armory = helper.getBlockEntity(BlockPos.ZERO.above());
+        HolderLookup.Provider registries = helper.getLevel().registryAccess();
+        StressRecorder recorder = StressRecorder.start("armory_storage");
+
+        List<ItemStack> stacks = new ArrayList<>();
+        for (Item item : StressTests.modItems()) {
+            for (int left = ARMORY_COPIES; left > 0; left -= item.getDefaultMaxStackSize()) {
+                stacks.add(new ItemStack(item, Math.min(left, item.getDefaultMaxStackSize())));
+            }
+        }
+        for (int i = 0; i < ARMORY_WORN; i++) {
+            ItemStack worn = stacks.get(i * 7 % stacks.size()).copyWithCount(1);
+            worn.setDamageValue(1 + i);
+            stacks.add(worn);
+        }
+        stacks.forEach(stack -> helper.assertTrue(armory.insert(stack.copy()).isEmpty(), "Armory refused " + stack));
+
+        ListTag chestItems = new ListTag();
+        stacks.forEach(stack -> chestItems.add(stack.save(registries)));
+        int chests = Mth.positiveCeilDiv(stacks.size(), 27);
+        // each chest also saves its own id and position, as the armory does
+        long chestBytes = nbtSize(chestItems) + chests * nbtSize(new ChestBlockEntity(BlockPos.ZERO, Blocks.CHEST.defaultBlockState()).saveWithFullMetadata(registries));
+        long armoryBytes = nbtSize(armory.saveWithFullMetadata(registries));
+
+        List<Integer> ordinals = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        List<ItemStack> page = new ArrayList<>();
+        List<ItemStack> extras = new ArrayList<>();
+        armory.forEntries(0, ArmoryMenu.PAGE_SIZE, (ordinal, count) -> {
+            ordinals.add(ordinal);
+            counts.add(count);
+            AnimatedItem item = ItemRegistry.get(ordinal);
+            page.add(item == null ? ItemStack.EMPTY : new ItemStack(item, Math.min(count, 99)));
+        }, stack -> {
+            extras.add(stack);
+            page.add(stack);
+        });
+        RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), registries);
+        buf.writeResourceLocation(ArmoryPagePayload.TYPE.id());
+        ArmoryPagePayload.STREAM_CODEC.encode(buf, new ArmoryPagePayload(1, 0, 1,
+                ordinals.stream().mapToInt(Integer::intValue).toArray(), counts.stream().mapToInt(Integer::intValue).toArray(), extras));
+        int pageBytes = buf.readableBytes() + 1;
+        buf.clear();
+        ClientboundContainerSetContentPacket.STREAM_CODEC.encode(buf, new ClientboundContainerSetContentPacket(1, 0, NonNullList.of(ItemStack.EMPTY, page.toArray(ItemStack[]::new)), ItemStack.EMPTY));
+        int contentBytes = buf.readableBytes() + 1;
+
+        helper.assertTrue(armoryBytes < chestBytes, "Armory saves larger than chests: %d >= %d".formatted(armoryBytes, chestBytes));
+        recorder.counter("stacks", stacks.size())
+                .counter("entries", armory.entryCount())
+                .counter("armory_nbt_bytes", armoryBytes)
+                .counter("chest_nbt_bytes", chestBytes)
+                .counter("page_payload_bytes", pageBytes)
+                .counter("container_content_bytes", contentBytes);
+        recorder.finish(helper);
+    }
+
+    private static long nbtSize(Tag tag) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            NbtIo.writeUnnamedTag(tag, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.size();
+    }
+}
@@ -0,0 +1,54 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.MinecraftServer;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Data pack reloads with the mod's generated data.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class DataReloadTests {
+    private DataReloadTests() {}
+
+    /**
+     * Reloads the data packs and reports how long it took next to the size of the variant matrix, so that runs
+     * with different startup configs can be compared. The generated recipes, heat and size definitions of disabled
+     * variants are dropped by their conditions, so the reload must not fail on them.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "stress_data_reload", timeoutTicks = StressTests.DURATION * 3)
+    public static void dataReload(GameTestHelper helper) {
+        MinecraftServer server = helper.getLevel().getServer();
+        int registered = 0;
+        for (int ordinal = 0; ordinal < ItemVariants.COUNT; ordinal++) {
+            registered += ItemRegistry.get(ordinal) != null ? 1 : 0;
+        }
+
+        StressRecorder recorder = StressRecorder.start("data_reload");
+        long start = System.nanoTime();
+        long[] elapsed = {-1};
+        CompletableFuture<Void> reload = server.reloadResources(server.getPackRepository().getSelectedIds())
+                .thenRun(() -> elapsed[0] = System.nanoTime() - start);
+        int variants = registered;
+        helper.succeedWhen(() -> {
+            helper.assertTrue(reload.isDone(), "Data packs are still reloading");
+            helper.assertFalse(reload.isCompletedExceptionally(), "Data packs failed to reload");
+            long recipes = server.getRecipeManager().getRecipes().stream()
+                    .filter(holder -> holder.id().getNamespace().equals(TFCWeaponsPlus.MOD_ID))
+                    .count();
+            recorder.counter("variants", ItemVariants.COUNT)
+                    .counter("variants_registered", variants)
+                    .counter("recipes", recipes)
+                    .counter("reload_micros", elapsed[0] / 1000);
+            recorder.stop(helper);
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.entity.WeaponItemEntity;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.List;
+
+/**
+ * Dropped weapons settling and going to sleep on the ground.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class DroppedWeaponTests {
+    private static final int DROPPED_WEAPONS = 2000;
+    private static final int SETTLE_TICKS = 80;
+
+    private DroppedWeaponTests() {}
+
+    /**
+     * Drops {@value #DROPPED_WEAPONS} weapons and components and lets them settle. Besides the whole run, the ticks
+     * after {@value #SETTLE_TICKS}, once they lie still and sleep, are reported on their own as
+     * {@code dropped_weapons_resting}.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "stress_dropped_weapons", timeoutTicks = StressTests.DURATION + 100)
+    public static void droppedWeapons(GameTestHelper helper) {
+        List<Item> items = StressTests.modItems();
+        ServerLevel level = helper.getLevel();
+
+        StressRecorder recorder = StressRecorder.start("dropped_weapons");
+        for (int i = 0; i < DROPPED_WEAPONS; i++) {
+            Vec3 pos = helper.absoluteVec(new Vec3(1 + (i % 22), 2 + (i / 484), 1 + ((i / 22) % 22)));
+            level.addFreshEntity(new ItemEntity(level, pos.x, pos.y, pos.z, new ItemStack(items.get(i % items.size()))));
+        }
+
+        StressRecorder[] resting = new StressRecorder[1];
+        helper.runAtTickTime(SETTLE_TICKS, () -> resting[0] = StressRecorder.start("dropped_weapons_resting"));
+        helper.runAtTickTime(StressTests.DURATION, () -> {
+            List<WeaponItemEntity> drops = level.getEntitiesOfClass(WeaponItemEntity.class, helper.getBounds().inflate(2));
+            long asleep = drops.stream().filter(WeaponItemEntity::isAsleep).count();
+            helper.assertTrue(asleep > drops.size() * 9L / 10, "Only %d of %d drops are asleep".formatted(asleep, drops.size()));
+            resting[0].counter("drops", drops.size())
+                    .counter("asleep", asleep)
+                    .stop(helper);
+            recorder.counter("spawned", DROPPED_WEAPONS)
+                    .counter("remaining", helper.getEntities(EntityType.ITEM).size() + drops.size())
+                    .finish(helper);
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.combat.GuardState;
+import com.concinnity.tfcweaponsplus.combat.GuardTracker;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.monster.Husk;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * Sword guard against hits from the front.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class GuardTests {
+    /** Past the spawn invulnerability of the players. */
+    private static final int RAISE_TICK = 70;
+    /** Past the parry window, and long enough in use for vanilla to count the sword as a raised shield. */
+    private static final int HIT_TICK = RAISE_TICK + 12;
+    private static final float DAMAGE = 8;
+
+    private GuardTests() {}
+
+    /**
+     * A player holding up a steel sword and one standing unguarded take the same hit from a husk in front of them.
+     * Once the parry window is over, the guard absorbs part of the hit, so the guarding player must lose less health
+     * than the other, but still lose some.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "guard", timeoutTicks = HIT_TICK + 20)
+    public static void guardAbsorbsPartOfHit(GameTestHelper helper) {
+        Item sword = StressTests.variantItem(WeaponType.SWORD, Metal.STEEL);
+        ServerPlayer guarding = StressTests.spawnPlayer(helper, 0);
+        ServerPlayer unguarded = StressTests.spawnPlayer(helper, 1);
+        for (ServerPlayer player : new ServerPlayer[] {guarding, unguarded}) {
+            // mock players are creative, and so invulnerable
+            player.setGameMode(GameType.SURVIVAL);
+            player.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(sword));
+            // facing south, towards the husk
+            player.setYRot(0);
+            player.setYHeadRot(0);
+        }
+        // two blocks south of where the first player is spawned
+        Husk husk = helper.spawnWithNoFreeWill(EntityType.HUSK, new Vec3(2, 1, 4));
+
+        helper.runAtTickTime(RAISE_TICK, () -> {
+            guarding.getMainHandItem().use(helper.getLevel(), guarding, InteractionHand.MAIN_HAND);
+            helper.assertTrue(guarding.isUsingItem(), "The sword guard was not raised");
+        });
+        // the mock connections never tick their players, which is where item use and player tick events run
+        helper.onEachTick(() -> {
+            if (helper.getTick() > RAISE_TICK && guarding.isUsingItem()) {
+                guarding.doTick();
+            }
+        });
+
+        helper.runAtTickTime(HIT_TICK, () -> {
+            helper.assertTrue(GuardTracker.get(guarding).state() == GuardState.GUARD, "The guard is not up: " + GuardTracker.get(guarding).state());
+            DamageSource source = helper.getLevel().damageSources().mobAttack(husk);
+            guarding.hurt(source, DAMAGE);
+            unguarded.hurt(source, DAMAGE);
+
+            float guardedLoss = guarding.getMaxHealth() - guarding.getHealth();
+            float unguardedLoss = unguarded.getMaxHealth() - unguarded.getHealth();
+            helper.assertTrue(unguardedLoss > 0, "The unguarded player took no damage");
+            helper.assertTrue(guardedLoss > 0, "The guard blocked the whole hit");
+            helper.assertTrue(guardedLoss < unguardedLoss, "The guard absorbed nothing: lost %.2f of %.2f".formatted(guardedLoss, unguardedLoss));
+            StressTests.removePlayer(guarding);
+            StressTests.removePlayer(unguarded);
+            helper.succeed();
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import net.minecraft.advancements.AdvancementHolder;
+import net.minecraft.advancements.CriteriaTriggers;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inventories changing every tick, and the advancement triggers they fire.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class InventoryChurnTests {
+    private InventoryChurnTests() {}
+
+    @GameTest(template = StressTests.ARENA, batch = "stress_inventory_churn", timeoutTicks = StressTests.DURATION + 100)
+    public static void inventoryChurn(GameTestHelper helper) {
+        List<Item> items = StressTests.modItems();
+        AdvancementHolder root = helper.getLevel().getServer().getAdvancements().get(ResourceUtils.of("root"));
+        helper.assertTrue(root != null, "Missing advancement " + ResourceUtils.of("root"));
+
+        List<ServerPlayer> players = new ArrayList<>();
+        for (int i = 0; i < StressTests.CHURN_PLAYERS; i++) {
+            players.add(StressTests.spawnPlayer(helper, i));
+        }
+
+        StressRecorder recorder = StressRecorder.start("inventory_churn");
+        long[] churned = new long[2];
+        helper.onEachTick(() -> {
+            long tick = helper.getTick();
+            for (int i = 0; i < players.size(); i++) {
+                ServerPlayer player = players.get(i);
+                int slot = (int) ((tick + i) % player.getInventory().items.size());
+                Item item = items.get((int) ((tick * players.size() + i) % items.size()));
+                ItemStack stack = new ItemStack(item);
+
+                player.getInventory().setItem(slot, stack);
+                CriteriaTriggers.INVENTORY_CHANGED.trigger(player, player.getInventory(), stack);
+                churned[0]++;
+
+                if (player.getAdvancements().getOrStartProgress(root).isDone()) {
+                    for (String criterion : root.value().criteria().keySet()) {
+                        player.getAdvancements().revoke(root, criterion);
+                    }
+                    churned[1]++;
+                }
+            }
+        });
+
+        helper.runAtTickTime(StressTests.DURATION, () -> {
+            recorder.counter("players", players.size())
+                    .counter("inventory_changes", churned[0])
+                    .counter("advancements_completed", churned[1]);
+            helper.assertTrue(churned[1] > 0, "The root advancement was never completed");
+            players.forEach(StressTests::removePlayer);
+            recorder.finish(helper);
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.combat.MeleeSweep;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Weapon hit capsules swept through a crowd.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class MeleeSweepTests {
+    private static final int SWEEP_CROWD = 400;
+    private static final int SWEEP_SWINGS = 20_000;
+
+    private MeleeSweepTests() {}
+
+    /**
+     * A player surrounded by a dense crowd of mobs swings every weapon {@value #SWEEP_SWINGS} times, turning a little
+     * each swing, with only the capsule sweep timed. The sweep reuses its buffers, so the allocation reported should
+     * barely grow with the swing count.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "stress_melee_sweep")
+    public static void meleeSweep(GameTestHelper helper) {
+        ServerPlayer player = StressTests.spawnPlayer(helper, 0);
+        Vec3 center = new Vec3(StressTests.ARENA_SIZE / 2.0, 1, StressTests.ARENA_SIZE / 2.0);
+        Vec3 absolute = helper.absoluteVec(center);
+        player.teleportTo(absolute.x, absolute.y, absolute.z);
+        RandomSource random = RandomSource.create(0);
+        for (int i = 0; i < SWEEP_CROWD; i++) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            double distance = 1 + random.nextDouble() * 4;
+            helper.spawnWithNoFreeWill(EntityType.ZOMBIE, center.add(Math.cos(angle) * distance, 0, Math.sin(angle) * distance));
+        }
+
+        helper.runAtTickTime(1, () -> {
+            StressRecorder recorder = StressRecorder.start("melee_sweep");
+            List<LivingEntity> hits = new ArrayList<>();
+            recorder.counter("crowd", SWEEP_CROWD);
+            for (WeaponType weapon : WeaponType.values()) {
+                long total = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < SWEEP_SWINGS; i++) {
+                    player.setYRot(i * 7 % 360);
+                    total += MeleeSweep.sweep(player, weapon, hits);
+                    hits.clear();
+                }
+                long nanos = System.nanoTime() - start;
+                helper.assertTrue(total > 0, "A %s swing through the crowd hit nothing".formatted(weapon.getSerializedName()));
+                recorder.counter(weapon.getSerializedName() + "_swings_per_second", SWEEP_SWINGS * 1_000_000_000L / Math.max(1, nanos))
+                        .counter(weapon.getSerializedName() + "_hits_per_swing", total / SWEEP_SWINGS);
+            }
+            StressTests.removePlayer(player);
+            recorder.finish(helper);
+        });
+    }
+}
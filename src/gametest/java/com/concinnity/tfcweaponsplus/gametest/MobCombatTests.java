@@ -0,0 +1,168 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.combat.ImpactFeedback;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.network.ImpactPayload;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.core.Holder;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import net.minecraft.network.protocol.game.ClientboundAnimatePacket;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.network.protocol.game.ClientboundLevelParticlesPacket;
+import net.minecraft.network.protocol.game.ClientboundSoundPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.monster.Husk;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Players fighting a horde of mobs, and the impact feedback their heavy weapons send.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class MobCombatTests {
+    private static final int PLAYERS_PER_WEAPON = 4;
+    private static final int MOBS = 200;
+    private static final Set<SoundEvent> ATTACK_SOUNDS = Set.of(SoundEvents.PLAYER_ATTACK_STRONG, SoundEvents.PLAYER_ATTACK_WEAK,
+            SoundEvents.PLAYER_ATTACK_CRIT, SoundEvents.PLAYER_ATTACK_KNOCKBACK);
+
+    private MobCombatTests() {}
+
+    @GameTest(template = StressTests.ARENA, batch = "stress_mob_combat", timeoutTicks = StressTests.DURATION + 100)
+    public static void mobCombat(GameTestHelper helper) {
+        List<ServerPlayer> players = new ArrayList<>();
+        for (WeaponType type : WeaponType.values()) {
+            Item weapon = StressTests.variantItem(type, Metal.STEEL);
+            for (int i = 0; i < PLAYERS_PER_WEAPON; i++) {
+                ServerPlayer player = StressTests.spawnPlayer(helper, players.size());
+                player.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(weapon));
+                players.add(player);
+            }
+        }
+
+        List<Husk> mobs = new ArrayList<>(MOBS);
+        for (int i = 0; i < MOBS; i++) {
+            Husk husk = helper.spawn(EntityType.HUSK, new Vec3(1 + (i % 22), 1, 1 + ((i / 22) % 22)));
+            husk.setTarget(players.get(i % players.size()));
+            mobs.add(husk);
+        }
+
+        StressRecorder recorder = StressRecorder.start("mob_combat");
+        long impactsBefore = ImpactFeedback.getPayloadsSent();
+        long[] attacks = new long[1];
+        long[] traffic = new long[5];
+        impactTraffic(helper, players, new long[5]);
+        helper.onEachTick(() -> {
+            // what the previous tick's attacks sent
+            impactTraffic(helper, players, traffic);
+            long tick = helper.getTick();
+            for (int i = 0; i < players.size(); i++) {
+                ServerPlayer player = players.get(i);
+                player.setHealth(player.getMaxHealth());
+                if ((tick + i) % 10 != 0) {
+                    continue;
+                }
+                Husk target = mobs.get((int) ((tick / 10 + i) % mobs.size()));
+                if (target.isAlive()) {
+                    player.attack(target);
+                    player.resetAttackStrengthTicker();
+                    attacks[0]++;
+                }
+            }
+        });
+
+        helper.runAtTickTime(StressTests.DURATION, () -> {
+            recorder.counter("players", players.size())
+                    .counter("mobs", MOBS)
+                    .counter("attacks", attacks[0])
+                    .counter("killed", mobs.stream().filter(mob -> !mob.isAlive()).count());
+            impactTraffic(helper, players, traffic);
+            recorder.counter("impacts", ImpactFeedback.getPayloadsSent() - impactsBefore)
+                    .counter("impacts_received", traffic[0])
+                    .counter("impact_payload_bytes", traffic[1])
+                    .counter("impact_vanilla_bytes", traffic[2])
+                    .counter("attack_feedback_bytes", traffic[3])
+                    .counter("duplicate_attack_sounds", traffic[4]);
+            players.forEach(StressTests::removePlayer);
+            if (traffic[4] > 0) {
+                recorder.stop(helper);
+                helper.fail(traffic[4] + " vanilla attack sounds were sent for hits that also sent an impact");
+                return;
+            }
+            recorder.finish(helper);
+        });
+    }
+
+    /**
+     * Empties the mock connections of the players and adds up, in {@code traffic}, the impacts they were sent, the
+     * bytes those took, the bytes the same effects would have taken sent the vanilla way, the bytes of vanilla attack
+     * sounds and critical hit animations, and the attack sounds played where a player with a heavy weapon stands,
+     * which the impacts should have replaced.
+     */
+    private static void impactTraffic(GameTestHelper helper, List<ServerPlayer> players, long[] traffic) {
+        for (ServerPlayer player : players) {
+            EmbeddedChannel channel = (EmbeddedChannel) player.connection.getConnection().channel();
+            for (Object sent = channel.readOutbound(); sent != null; sent = channel.readOutbound()) {
+                if (sent instanceof ClientboundBundlePacket bundle) {
+                    bundle.subPackets().forEach(packet -> countImpactTraffic(helper, players, packet, traffic));
+                } else if (sent instanceof Packet<?> packet) {
+                    countImpactTraffic(helper, players, packet, traffic);
+                }
+            }
+        }
+    }
+
+    private static void countImpactTraffic(GameTestHelper helper, List<ServerPlayer> players, Packet<?> packet, long[] traffic) {
+        RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), helper.getLevel().registryAccess());
+        if (packet instanceof ClientboundCustomPayloadPacket(ImpactPayload payload)) {
+            buf.writeResourceLocation(ImpactPayload.TYPE.id());
+            ImpactPayload.STREAM_CODEC.encode(buf, payload);
+            traffic[0]++;
+            // plus the one byte packet id, here and below
+            traffic[1] += buf.readableBytes() + 1;
+            traffic[2] += vanillaImpactSize(helper, payload);
+        } else if (packet instanceof ClientboundSoundPacket sound && ATTACK_SOUNDS.contains(sound.getSound().value())) {
+            ClientboundSoundPacket.STREAM_CODEC.encode(buf, sound);
+            traffic[3] += buf.readableBytes() + 1;
+            Vec3 at = new Vec3(sound.getX(), sound.getY(), sound.getZ());
+            traffic[4] += players.stream().anyMatch(player -> player.position().closerThan(at, 0.5)
+                    && player.getMainHandItem().getItem() instanceof AnimatedItem item
+                    && item.getVariant().item() instanceof WeaponType weapon && ImpactFeedback.isHeavy(weapon)) ? 1 : 0;
+        } else if (packet instanceof ClientboundAnimatePacket animate && animate.getAction() == ClientboundAnimatePacket.CRITICAL_HIT) {
+            ClientboundAnimatePacket.STREAM_CODEC.encode(buf, animate);
+            traffic[3] += buf.readableBytes() + 1;
+        }
+    }
+
+    /**
+     * The same effect sent the vanilla way: a particle packet for each of the two kinds of particle, and a sound.
+     */
+    private static int vanillaImpactSize(GameTestHelper helper, ImpactPayload impact) {
+        RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), helper.getLevel().registryAccess());
+        ClientboundLevelParticlesPacket.STREAM_CODEC.encode(buf, new ClientboundLevelParticlesPacket(ParticleTypes.CRIT, false, impact.x(), impact.y(), impact.z(), 0.3f, 0.3f, 0.3f, 0.5f, 16));
+        ClientboundLevelParticlesPacket.STREAM_CODEC.encode(buf, new ClientboundLevelParticlesPacket(ParticleTypes.ELECTRIC_SPARK, false, impact.x(), impact.y(), impact.z(), 0.3f, 0.3f, 0.3f, 0.5f, 8));
+        ClientboundSoundPacket.STREAM_CODEC.encode(buf, new ClientboundSoundPacket(Holder.direct(SoundEvents.PLAYER_ATTACK_STRONG), SoundSource.PLAYERS, impact.x(), impact.y(), impact.z(), 1, 1, 0));
+        return buf.readableBytes() + 3;
+    }
+}
@@ -0,0 +1,81 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.equipment.MobEquipment;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.Difficulty;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.MobSpawnType;
+import net.minecraft.world.entity.monster.Zombie;
+import net.minecraft.world.level.biome.Biome;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * Equipment picked for spawning mobs.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class MobSpawnTests {
+    private static final int SPAWNS_PER_TICK = 250;
+    private static final int SPAWN_ROUNDS = 40;
+    private static final int EQUIPMENT_SAMPLES = 1_000_000;
+
+    private MobSpawnTests() {}
+
+    /**
+     * Spawn wave throughput: zombies spawned through the normal finalize path and removed at once, so the figure is
+     * the cost of spawning rather than of ticking them. Also times the equipment choice on its own.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "stress_mob_spawns", timeoutTicks = SPAWN_ROUNDS + 100)
+    public static void mobSpawns(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        BlockPos pos = helper.absolutePos(new BlockPos(StressTests.ARENA_SIZE / 2, 1, StressTests.ARENA_SIZE / 2));
+        Holder<Biome> biome = level.getBiome(pos);
+
+        RandomSource random = RandomSource.create(0);
+        long armedSamples = 0;
+        long sampleStart = System.nanoTime();
+        for (int i = 0; i < EQUIPMENT_SAMPLES; i++) {
+            if (MobEquipment.choose(EntityType.ZOMBIE, biome, Difficulty.NORMAL, random) != null) {
+                armedSamples++;
+            }
+        }
+        long sampleNanos = System.nanoTime() - sampleStart;
+        helper.assertTrue(armedSamples > 0, "No zombie equipment table matched");
+
+        StressRecorder recorder = StressRecorder.start("mob_spawns");
+        long[] spawns = new long[3];
+        helper.onEachTick(() -> {
+            long start = System.nanoTime();
+            for (int i = 0; i < SPAWNS_PER_TICK; i++) {
+                Zombie zombie = EntityType.ZOMBIE.spawn(level, pos, MobSpawnType.NATURAL);
+                if (zombie == null) {
+                    continue;
+                }
+                spawns[0]++;
+                if (zombie.getMainHandItem().getItem() instanceof AnimatedItem) {
+                    spawns[1]++;
+                }
+                zombie.discard();
+            }
+            spawns[2] += System.nanoTime() - start;
+        });
+
+        helper.runAtTickTime(SPAWN_ROUNDS, () -> {
+            recorder.counter("equipment_samples", EQUIPMENT_SAMPLES)
+                    .counter("equipment_nanos_per_1000_samples", sampleNanos * 1000 / EQUIPMENT_SAMPLES)
+                    .counter("equipment_armed_samples", armedSamples)
+                    .counter("spawned", spawns[0])
+                    .counter("armed", spawns[1])
+                    .counter("spawns_per_second", spawns[2] > 0 ? spawns[0] * 1_000_000_000L / spawns[2] : 0);
+            recorder.finish(helper);
+        });
+    }
+}
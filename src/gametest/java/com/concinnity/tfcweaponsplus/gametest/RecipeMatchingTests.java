@@ -0,0 +1,102 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.utils.TFCUtils;
+import net.dries007.tfc.common.recipes.AnvilRecipe;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.CraftingInput;
+import net.minecraft.world.item.crafting.CraftingRecipe;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.ShapedRecipe;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Crafting and anvil recipe lookups for the mod's items.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class RecipeMatchingTests {
+    private static final int RECIPE_ROUNDS = 20;
+    private static final List<String> ANVIL_INPUTS = List.of("c:ingots/%s", "c:double_ingots/%s", "c:sheets/%s", "c:double_sheets/%s");
+
+    private RecipeMatchingTests() {}
+
+    @GameTest(template = StressTests.ARENA, batch = "stress_recipe_matching", timeoutTicks = RECIPE_ROUNDS + 100)
+    public static void recipeMatching(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        List<RecipeHolder<CraftingRecipe>> recipes = level.getRecipeManager().getAllRecipesFor(RecipeType.CRAFTING).stream()
+                .filter(holder -> holder.id().getNamespace().equals(TFCWeaponsPlus.MOD_ID))
+                .toList();
+        helper.assertTrue(!recipes.isEmpty(), "No crafting recipes found for " + TFCWeaponsPlus.MOD_ID);
+
+        List<CraftingInput> craftingInputs = recipes.stream().map(holder -> craftingInput(helper, holder)).toList();
+        List<ItemStack> anvilInputs = new ArrayList<>();
+        List<Integer> anvilTiers = new ArrayList<>();
+        Arrays.stream(Metal.values()).filter(TFCUtils::isValidMetal).forEach(metal ->
+                ANVIL_INPUTS.forEach(format -> firstInTag(format.formatted(metal.getSerializedName())).ifPresent(stack -> {
+                    anvilInputs.add(stack);
+                    anvilTiers.add(metal.tier());
+                })));
+
+        StressRecorder recorder = StressRecorder.start("recipe_matching");
+        long[] matched = new long[2];
+        helper.onEachTick(() -> {
+            for (int i = 0; i < recipes.size(); i++) {
+                RecipeHolder<CraftingRecipe> expected = recipes.get(i);
+                Optional<RecipeHolder<CraftingRecipe>> found = level.getRecipeManager().getRecipeFor(RecipeType.CRAFTING, craftingInputs.get(i), level);
+                helper.assertTrue(found.isPresent(), "No crafting recipe matched the inputs of " + expected.id());
+                matched[0]++;
+            }
+            for (int i = 0; i < anvilInputs.size(); i++) {
+                matched[1] += AnvilRecipe.getAll(level, anvilInputs.get(i), anvilTiers.get(i)).size();
+            }
+        });
+
+        helper.runAtTickTime(RECIPE_ROUNDS, () -> {
+            recorder.counter("crafting_recipes", recipes.size())
+                    .counter("crafting_matches", matched[0])
+                    .counter("anvil_inputs", anvilInputs.size())
+                    .counter("anvil_matches", matched[1]);
+            helper.assertTrue(matched[1] > 0, "No anvil recipe matched any metal input");
+            recorder.finish(helper);
+        });
+    }
+
+    private static CraftingInput craftingInput(GameTestHelper helper, RecipeHolder<CraftingRecipe> holder) {
+        if (!(holder.value() instanceof ShapedRecipe shaped)) {
+            helper.fail("Expected a shaped recipe: " + holder.id());
+            return CraftingInput.EMPTY;
+        }
+        List<ItemStack> stacks = shaped.getIngredients().stream()
+                .map(StressTests::firstMatching)
+                .toList();
+        return CraftingInput.of(shaped.getWidth(), shaped.getHeight(), stacks);
+    }
+
+    private static ItemStack firstMatching(Ingredient ingredient) {
+        ItemStack[] items = ingredient.getItems();
+        return items.length == 0 ? ItemStack.EMPTY : items[0].copy();
+    }
+
+    private static Optional<ItemStack> firstInTag(String tag) {
+        return BuiltInRegistries.ITEM.getTag(TagKey.create(Registries.ITEM, ResourceLocation.parse(tag)))
+                .flatMap(set -> set.stream().findFirst())
+                .map(holder -> new ItemStack(holder));
+    }
+}
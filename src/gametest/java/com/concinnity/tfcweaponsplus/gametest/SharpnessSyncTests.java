@@ -0,0 +1,95 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.component.Sharpness;
+import com.concinnity.tfcweaponsplus.item.component.SharpnessTracker;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.network.SharpnessPayload;
+import io.netty.buffer.Unpooled;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.monster.Husk;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * Sharpness updates sent to a player hitting without pause.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class SharpnessSyncTests {
+    private static final int COMBAT_MINUTE = 20 * 60;
+    private static final int HITS_PER_TICK = 2;
+
+    private SharpnessSyncTests() {}
+
+    /**
+     * One minute of a player hitting twice every tick. Sharpness updates are coalesced, so at most one payload per
+     * tick should go out. The report compares the bytes sent against a full slot resync for every change.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "stress_sharpness_sync", timeoutTicks = COMBAT_MINUTE + 100)
+    public static void sharpnessSync(GameTestHelper helper) {
+        Item sword = StressTests.variantItem(WeaponType.SWORD, Metal.STEEL);
+        ServerPlayer player = StressTests.spawnPlayer(helper, 0);
+        ItemStack stack = new ItemStack(sword);
+        player.setItemInHand(InteractionHand.MAIN_HAND, stack);
+        int slot = player.getInventory().selected;
+        Husk target = helper.spawnWithNoFreeWill(EntityType.HUSK, new Vec3(3, 1, 2));
+
+        StressRecorder recorder = StressRecorder.start("sharpness_sync");
+        long payloadsBefore = SharpnessTracker.getPayloadsSent();
+        long[] hits = new long[1];
+        helper.onEachTick(() -> {
+            target.setHealth(target.getMaxHealth());
+            for (int i = 0; i < HITS_PER_TICK; i++) {
+                target.invulnerableTime = 0;
+                player.resetAttackStrengthTicker();
+                player.attack(target);
+                hits[0]++;
+            }
+            if (SharpnessTracker.get(stack).level() == 0) {
+                SharpnessTracker.set(player, slot, stack, Sharpness.FULL);
+            }
+        });
+
+        helper.runAtTickTime(COMBAT_MINUTE, () -> {
+            long payloads = SharpnessTracker.getPayloadsSent() - payloadsBefore;
+            helper.assertTrue(payloads > 0, "No sharpness updates were sent");
+            helper.assertTrue(payloads <= COMBAT_MINUTE, "Sharpness updates were not coalesced per tick: " + payloads);
+
+            int payloadBytes = payloadSize(new SharpnessPayload((byte) slot, Sharpness.FULL));
+            int stackBytes = slotUpdateSize(helper, stack);
+            recorder.counter("hits", hits[0])
+                    .counter("payloads", payloads)
+                    .counter("payload_bytes", payloadBytes)
+                    .counter("bytes_per_minute", payloads * payloadBytes)
+                    .counter("full_resync_bytes_per_minute", hits[0] * stackBytes);
+            StressTests.removePlayer(player);
+            recorder.finish(helper);
+        });
+    }
+
+    private static int payloadSize(SharpnessPayload payload) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeResourceLocation(SharpnessPayload.TYPE.id());
+        SharpnessPayload.STREAM_CODEC.encode(buf, payload);
+        // plus the one byte packet id, as for the slot update below
+        return buf.readableBytes() + 1;
+    }
+
+    private static int slotUpdateSize(GameTestHelper helper, ItemStack stack) {
+        RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), helper.getLevel().registryAccess());
+        ClientboundContainerSetSlotPacket.STREAM_CODEC.encode(buf, new ClientboundContainerSetSlotPacket(0, 0, 36, stack.copy()));
+        return buf.readableBytes() + 1;
+    }
+}
@@ -0,0 +1,150 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.MinecraftServer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records server tick times and server thread allocation while a stress test runs, and writes them to
+ * {@code gametest-reports/<test>.json} in the server directory when the test finishes. Stress tests each run in
+ * their own batch, so the ticks measured belong to that test alone.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class StressRecorder {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final List<StressRecorder> ACTIVE = new CopyOnWriteArrayList<>();
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final String name;
+    private final JsonObject counters = new JsonObject();
+    private long[] tickNanos = new long[256];
+    private int ticks;
+    private long tickStart;
+    private long startNanos;
+    private long startAllocated;
+
+    private StressRecorder(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Must be called from the server thread, which is where the test body runs.
+     */
+    public static StressRecorder start(String name) {
+        StressRecorder recorder = new StressRecorder(name);
+        recorder.startNanos = System.nanoTime();
+        recorder.startAllocated = THREADS.getCurrentThreadAllocatedBytes();
+        ACTIVE.add(recorder);
+        return recorder;
+    }
+
+    public StressRecorder counter(String key, long value) {
+        counters.addProperty(key, value);
+        return this;
+    }
+
+    /**
+     * Stops recording, writes the report and marks the test as passed.
+     */
+    public void finish(GameTestHelper helper) {
+        stop(helper);
+        helper.succeed();
+    }
+
+    /**
+     * Stops recording and writes the report, for a test that records more than one report.
+     */
+    public void stop(GameTestHelper helper) {
+        long elapsed = System.nanoTime() - startNanos;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - startAllocated;
+        ACTIVE.remove(this);
+
+        write(helper.getLevel().getServer(), report(elapsed, allocated));
+    }
+
+    private JsonObject report(long elapsedNanos, long allocatedBytes) {
+        long[] sorted = Arrays.copyOf(tickNanos, ticks);
+        Arrays.sort(sorted);
+        double total = 0;
+        for (long tick : sorted) {
+            total += tick;
+        }
+
+        JsonObject report = new JsonObject();
+        report.addProperty("test", name);
+        report.addProperty("ticks", ticks);
+        report.addProperty("mspt_mean", ticks == 0 ? 0 : total / ticks / 1.0E6);
+        report.addProperty("mspt_p50", percentile(sorted, 0.50));
+        report.addProperty("mspt_p95", percentile(sorted, 0.95));
+        report.addProperty("mspt_max", ticks == 0 ? 0 : sorted[ticks - 1] / 1.0E6);
+        report.addProperty("allocated_bytes", allocatedBytes);
+        report.addProperty("allocated_bytes_per_tick", ticks == 0 ? 0 : allocatedBytes / ticks);
+        report.addProperty("allocation_rate_mb_per_s", allocatedBytes / (1024.0 * 1024.0) / (elapsedNanos / 1.0E9));
+        report.add("counters", counters);
+        return report;
+    }
+
+    private void write(MinecraftServer server, JsonObject report) {
+        Path file = server.getServerDirectory().resolve("gametest-reports").resolve(name + ".json");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, GSON.toJson(report));
+            TFCWeaponsPlus.LOGGER.info("Stress test {}: {} ticks, {} mspt mean, report written to {}",
+                    name, ticks, report.get("mspt_mean").getAsDouble(), file);
+        } catch (IOException e) {
+            TFCWeaponsPlus.LOGGER.error("Failed to write stress report for {}", name, e);
+        }
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))] / 1.0E6;
+    }
+
+    private void record(long nanos) {
+        if (ticks == tickNanos.length) {
+            tickNanos = Arrays.copyOf(tickNanos, ticks * 2);
+        }
+        tickNanos[ticks++] = nanos;
+    }
+
+    @SubscribeEvent
+    public static void onServerTickPre(ServerTickEvent.Pre event) {
+        if (ACTIVE.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (StressRecorder recorder : ACTIVE) {
+            recorder.tickStart = now;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTickPost(ServerTickEvent.Post event) {
+        if (ACTIVE.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (StressRecorder recorder : ACTIVE) {
+            if (recorder.tickStart != 0) {
+                recorder.record(now - recorder.tickStart);
+            }
+        }
+    }
+}
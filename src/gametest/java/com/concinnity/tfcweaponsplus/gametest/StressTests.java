@@ -0,0 +1,60 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.registries.DeferredHolder;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Setup shared by the stress tests, which are run headless by the {@code gameTestServer} run. Each test is in its
+ * own batch so that the MSPT and allocation figures in its report are not shared with another test.
+ */
+final class StressTests {
+    static final String ARENA = "arena";
+    static final int ARENA_SIZE = 24;
+    static final int DURATION = 200;
+    static final int CHURN_PLAYERS = 20;
+
+    private StressTests() {}
+
+    /**
+     * @throws GameTestAssertException if the test needs a variant the startup config leaves out
+     */
+    static Item variantItem(WeaponType weapon, Metal metal) {
+        int ordinal = ItemVariants.ordinalOf(weapon, metal);
+        AnimatedItem item = ordinal < 0 ? null : ItemRegistry.get(ordinal);
+        if (item == null) {
+            throw new GameTestAssertException(new ResourceUtils.ItemVariant(weapon, Optional.of(metal)).getRegistryPath() + " is disabled in the startup config");
+        }
+        return item;
+    }
+
+    static List<Item> modItems() {
+        return ItemRegistry.getRegister().getEntries().stream()
+                .map(DeferredHolder::get)
+                .filter(item -> item instanceof AnimatedItem)
+                .toList();
+    }
+
+    static ServerPlayer spawnPlayer(GameTestHelper helper, int index) {
+        ServerPlayer player = helper.makeMockServerPlayerInLevel();
+        Vec3 pos = helper.absoluteVec(new Vec3(2 + (index * 3) % (ARENA_SIZE - 4), 1, 2 + (index * 3) / (ARENA_SIZE - 4) * 3));
+        player.teleportTo(pos.x, pos.y, pos.z);
+        return player;
+    }
+
+    static void removePlayer(ServerPlayer player) {
+        player.server.getPlayerList().remove(player);
+    }
+}
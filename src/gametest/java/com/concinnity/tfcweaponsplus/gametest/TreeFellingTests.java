@@ -0,0 +1,118 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.config.ServerConfig;
+import com.concinnity.tfcweaponsplus.harvest.BlockBreakScheduler;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import net.dries007.tfc.common.blocks.TFCBlocks;
+import net.dries007.tfc.common.blocks.wood.Wood;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Whole trees felled with greataxes.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class TreeFellingTests {
+    /** A stone floor wide and tall enough for {@value #FELLING_PLAYERS} trees side by side. */
+    private static final String GROVE = "grove";
+    private static final int GROVE_DEPTH = 16;
+    private static final int FELLING_PLAYERS = 5;
+    private static final int TREE_HEIGHT = 46;
+    private static final int TREE_BRANCH = 4;
+    private static final int TREE_LOGS = TREE_HEIGHT * 4 + TREE_BRANCH * 4;
+    /** The trunk, a branch and a leaf on either side, and a gap. */
+    private static final int TREE_SPACING = 2 + 2 * (TREE_BRANCH + 1) + 2;
+
+    private TreeFellingTests() {}
+
+    /**
+     * {@value #FELLING_PLAYERS} players each fell a {@value #TREE_LOGS} log tree with a steel greataxe in the same
+     * tick. The report's worst tick is the one to watch: the scheduler should keep it near the others, however
+     * many trees come down at once.
+     */
+    @GameTest(template = GROVE, batch = "stress_tree_felling", timeoutTicks = StressTests.DURATION)
+    public static void treeFelling(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        Item greataxe = StressTests.variantItem(WeaponType.GREATAXE, Metal.STEEL);
+        List<ServerPlayer> players = new ArrayList<>();
+        List<BlockPos> stumps = new ArrayList<>();
+        for (int i = 0; i < FELLING_PLAYERS; i++) {
+            BlockPos stump = new BlockPos(TREE_SPACING / 2 - 1 + i * TREE_SPACING, 1, GROVE_DEPTH / 2 - 1);
+            plantTree(helper, stump);
+            ServerPlayer player = helper.makeMockServerPlayerInLevel();
+            Vec3 pos = helper.absoluteVec(Vec3.atBottomCenterOf(stump.south(2)));
+            player.teleportTo(pos.x, pos.y, pos.z);
+            player.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(greataxe));
+            players.add(player);
+            stumps.add(helper.absolutePos(stump));
+        }
+
+        StressRecorder recorder = StressRecorder.start("tree_felling");
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).gameMode.destroyBlock(stumps.get(i));
+        }
+        long startTick = helper.getTick();
+        int queued = BlockBreakScheduler.pending(level);
+        helper.assertTrue(queued == FELLING_PLAYERS * (TREE_LOGS - 1), "Expected every tree to be queued, got %d logs".formatted(queued));
+
+        helper.onEachTick(() -> {
+            if (helper.getTick() == startTick || BlockBreakScheduler.pending(level) > 0) {
+                return;
+            }
+            for (BlockPos stump : stumps) {
+                helper.assertTrue(!level.getBlockState(stump.above(TREE_HEIGHT - 1)).is(BlockTags.LOGS), "A tree was left standing at " + stump);
+            }
+            recorder.counter("trees", FELLING_PLAYERS)
+                    .counter("logs_felled", queued + FELLING_PLAYERS)
+                    .counter("blocks_per_tick", ServerConfig.blocksPerTick())
+                    .counter("ticks_to_fell", helper.getTick() - startTick);
+            players.forEach(StressTests::removePlayer);
+            recorder.finish(helper);
+        });
+    }
+
+    /**
+     * Plants a TFC kapok log tree inside the grove: a two by two trunk with four branches at the top, each ending in
+     * leaves.
+     */
+    private static void plantTree(GameTestHelper helper, BlockPos stump) {
+        BlockState log = TFCBlocks.WOODS.get(Wood.KAPOK).get(Wood.BlockType.LOG).get().defaultBlockState();
+        BlockState leaves = TFCBlocks.WOODS.get(Wood.KAPOK).get(Wood.BlockType.LEAVES).get().defaultBlockState()
+                .trySetValue(BlockStateProperties.PERSISTENT, true);
+        for (int y = 0; y < TREE_HEIGHT; y++) {
+            for (int i = 0; i < 4; i++) {
+                helper.setBlock(stump.offset(i & 1, y, i >> 1), log);
+            }
+        }
+        BlockPos top = stump.above(TREE_HEIGHT - 1);
+        for (Direction direction : Direction.Plane.HORIZONTAL) {
+            // start from the trunk column on that side
+            BlockPos branch = top.offset(Math.max(0, direction.getStepX()), 0, Math.max(0, direction.getStepZ()));
+            for (int i = 0; i < TREE_BRANCH; i++) {
+                branch = branch.relative(direction);
+                helper.setBlock(branch, log);
+            }
+            helper.setBlock(branch.relative(direction), leaves);
+            helper.setBlock(branch.above(), leaves);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.component.WeaponAttributes;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import io.netty.channel.embedded.EmbeddedChannel;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.network.protocol.game.ClientboundUpdateAttributesPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Attribute updates sent while players scroll through their weapons.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class WeaponAttributeTests {
+    private WeaponAttributeTests() {}
+
+    /**
+     * Twenty players scroll across a hotbar of weapons every tick, most of them alike to their neighbours. All the
+     * players stand in the arena and track each other, so every update goes to each of them. The weapon changes,
+     * and those between weapons whose modifiers differ, are counted here from the hotbar, and the attribute update
+     * packets that reach the players' connections must number fewer than one per change and viewer.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "stress_hotbar_scroll", timeoutTicks = StressTests.DURATION + 100)
+    public static void hotbarScroll(GameTestHelper helper) {
+        List<Item> hotbar = List.of(
+                StressTests.variantItem(WeaponType.GREATSWORD, Metal.STEEL), StressTests.variantItem(WeaponType.GREATSWORD, Metal.STEEL),
+                StressTests.variantItem(WeaponType.GREATSWORD, Metal.STEEL), StressTests.variantItem(WeaponType.LONGSWORD, Metal.STEEL),
+                StressTests.variantItem(WeaponType.LONGSWORD, Metal.STEEL), StressTests.variantItem(WeaponType.GREATSWORD, Metal.BRONZE),
+                StressTests.variantItem(WeaponType.GREATSWORD, Metal.STEEL), StressTests.variantItem(WeaponType.SWORD, Metal.STEEL),
+                StressTests.variantItem(WeaponType.SWORD, Metal.STEEL));
+        List<ServerPlayer> players = new ArrayList<>();
+        for (int i = 0; i < StressTests.CHURN_PLAYERS; i++) {
+            ServerPlayer player = StressTests.spawnPlayer(helper, i);
+            for (int slot = 0; slot < hotbar.size(); slot++) {
+                player.getInventory().setItem(slot, new ItemStack(hotbar.get(slot)));
+            }
+            players.add(player);
+        }
+
+        // Scrolling starts once the players track each other and their pairing packets are out, and is read two
+        // ticks after it ends, once its last updates have been sent
+        int start = 10;
+        int duration = StressTests.DURATION;
+        long[] changes = new long[2];
+        helper.onEachTick(() -> {
+            long scroll = helper.getTick() - start;
+            if (scroll < 0 || scroll >= duration) {
+                return;
+            }
+            for (int i = 0; i < players.size(); i++) {
+                ServerPlayer player = players.get(i);
+                ItemStack from = player.getMainHandItem();
+                player.getInventory().selected = (int) ((scroll + i) % hotbar.size());
+                ItemStack to = player.getMainHandItem();
+                if (scroll > 0 && from != to) {
+                    changes[0]++;
+                    changes[1] += Arrays.equals(WeaponAttributes.get(from), WeaponAttributes.get(to)) ? 0 : 1;
+                }
+            }
+        });
+
+        StressRecorder recorder = StressRecorder.start("hotbar_scroll");
+        helper.runAtTickTime(start - 1, () -> attributePackets(players));
+
+        helper.runAtTickTime(start + duration + 2, () -> {
+            long packets = attributePackets(players);
+            long viewers = players.size();
+            helper.assertTrue(changes[0] > changes[1], "Every weapon change was between different modifiers");
+            helper.assertTrue(packets < changes[0] * viewers, "Weapons with the same modifiers still synced their attributes");
+            recorder.counter("players", players.size())
+                    .counter("weapon_changes", changes[0])
+                    .counter("differing_changes", changes[1])
+                    .counter("attribute_packets", packets)
+                    .counter("attribute_packets_per_change", changes[0] == 0 ? 0 : packets / changes[0]);
+            players.forEach(StressTests::removePlayer);
+            recorder.finish(helper);
+        });
+    }
+
+    /**
+     * Empties the mock connections of the players, which keep everything sent to them.
+     *
+     * @return the attribute update packets among what was sent
+     */
+    private static long attributePackets(List<ServerPlayer> players) {
+        long packets = 0;
+        for (ServerPlayer player : players) {
+            EmbeddedChannel channel = (EmbeddedChannel) player.connection.getConnection().channel();
+            for (Object sent = channel.readOutbound(); sent != null; sent = channel.readOutbound()) {
+                if (sent instanceof ClientboundUpdateAttributesPacket) {
+                    packets++;
+                } else if (sent instanceof ClientboundBundlePacket bundle) {
+                    for (Packet<?> packet : bundle.subPackets()) {
+                        packets += packet instanceof ClientboundUpdateAttributesPacket ? 1 : 0;
+                    }
+                }
+            }
+        }
+        return packets;
+    }
+}
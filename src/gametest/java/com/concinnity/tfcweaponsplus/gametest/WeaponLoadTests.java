@@ -0,0 +1,81 @@
+package com.concinnity.tfcweaponsplus.gametest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.encumbrance.WeaponLoad;
+import com.concinnity.tfcweaponsplus.encumbrance.WeaponLoadTracker;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Weapon load tracked across a full server of changing inventories.
+ */
+@GameTestHolder(TFCWeaponsPlus.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class WeaponLoadTests {
+    private static final int LOADED_PLAYERS = 150;
+
+    private WeaponLoadTests() {}
+
+    /**
+     * A full server of players whose inventories change every tick. The tracked weapon load is only adjusted from
+     * slot changes, so at the end it is checked against a full recount of every inventory.
+     */
+    @GameTest(template = StressTests.ARENA, batch = "stress_weapon_load", timeoutTicks = StressTests.DURATION + 100)
+    public static void weaponLoad(GameTestHelper helper) {
+        List<Item> items = StressTests.modItems();
+        List<ServerPlayer> players = new ArrayList<>();
+        for (int i = 0; i < LOADED_PLAYERS; i++) {
+            players.add(StressTests.spawnPlayer(helper, i % StressTests.CHURN_PLAYERS));
+        }
+
+        StressRecorder recorder = StressRecorder.start("weapon_load");
+        long updatesBefore = WeaponLoadTracker.getSlotUpdates();
+        long[] changes = new long[1];
+        helper.onEachTick(() -> {
+            long tick = helper.getTick();
+            // stop a few ticks early so the last changes have been seen by the menus before the check
+            if (tick >= StressTests.DURATION - 5) {
+                return;
+            }
+            for (int i = 0; i < players.size(); i++) {
+                Inventory inventory = players.get(i).getInventory();
+                int slot = (int) ((tick + i) % inventory.items.size());
+                boolean clear = (tick + i) % 3 == 0;
+                inventory.setItem(slot, clear ? ItemStack.EMPTY : new ItemStack(items.get((int) ((tick * players.size() + i) % items.size()))));
+                changes[0]++;
+            }
+        });
+
+        helper.runAtTickTime(StressTests.DURATION, () -> {
+            long loaded = 0;
+            for (ServerPlayer player : players) {
+                Inventory inventory = player.getInventory();
+                int expected = 0;
+                for (int slot = 0; slot < inventory.getContainerSize(); slot++) {
+                    expected += WeaponLoadTracker.points(inventory.getItem(slot));
+                }
+                WeaponLoad load = WeaponLoadTracker.get(player);
+                helper.assertTrue(load.getTotal() == expected, "Tracked weapon load " + load.getTotal() + " does not match the inventory " + expected);
+                helper.assertTrue(load.getGrade() == WeaponLoadTracker.grade(expected), "Stale weapon load grade " + load.getGrade());
+                if (load.getGrade() > 0) {
+                    loaded++;
+                }
+            }
+            recorder.counter("players", players.size())
+                    .counter("inventory_changes", changes[0])
+                    .counter("slot_updates", WeaponLoadTracker.getSlotUpdates() - updatesBefore)
+                    .counter("encumbered_players", loaded);
+            players.forEach(StressTests::removePlayer);
+            recorder.finish(helper);
+        });
+    }
+}
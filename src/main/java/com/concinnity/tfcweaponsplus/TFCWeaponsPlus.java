@@ -1,9 +1,19 @@
 package com.concinnity.tfcweaponsplus;
 
+import com.concinnity.tfcweaponsplus.config.ClientConfig;
+import com.concinnity.tfcweaponsplus.config.ServerConfig;
+import com.concinnity.tfcweaponsplus.config.StartupConfig;
+import com.concinnity.tfcweaponsplus.registration.AttachmentRegistry;
+import com.concinnity.tfcweaponsplus.registration.BlockEntityRegistry;
+import com.concinnity.tfcweaponsplus.registration.BlockRegistry;
 import com.concinnity.tfcweaponsplus.registration.CreativeModeTabs;
+import com.concinnity.tfcweaponsplus.registration.DataComponentRegistry;
+import com.concinnity.tfcweaponsplus.registration.EntityRegistry;
 import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.concinnity.tfcweaponsplus.registration.MenuRegistry;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.ModContainer;
+import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
 import org.slf4j.Logger;
 
@@ -19,8 +29,17 @@ public final class TFCWeaponsPlus {
 
     public TFCWeaponsPlus(IEventBus modEventBus, ModContainer modContainer){
         modEventBus.addListener(this::commonSetup);
+        modContainer.registerConfig(ModConfig.Type.STARTUP, StartupConfig.SPEC);
+        modContainer.registerConfig(ModConfig.Type.SERVER, ServerConfig.SPEC);
+        modContainer.registerConfig(ModConfig.Type.CLIENT, ClientConfig.SPEC);
         ItemRegistry.registerAll();
         ItemRegistry.getRegister().register(modEventBus);
+        BlockRegistry.register(modEventBus);
+        BlockEntityRegistry.register(modEventBus);
+        MenuRegistry.register(modEventBus);
+        EntityRegistry.register(modEventBus);
+        DataComponentRegistry.register(modEventBus);
+        AttachmentRegistry.register(modEventBus);
         CreativeModeTabs.register(modEventBus);
     }
 
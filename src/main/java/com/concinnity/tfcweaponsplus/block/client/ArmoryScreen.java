@@ -0,0 +1,136 @@
+package com.concinnity.tfcweaponsplus.block.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.block.menu.ArmoryMenu;
+import com.concinnity.tfcweaponsplus.network.ArmoryActionPayload;
+import com.concinnity.tfcweaponsplus.registration.MenuRegistry;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.Button;
+import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RegisterMenuScreensEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Shows one page of an armory over the player's inventory. Clicking an entry takes one item, shift-clicking takes
+ * a stack; shift-clicking an inventory slot puts it away.
+ */
+public class ArmoryScreen extends AbstractContainerScreen<ArmoryMenu> {
+    private static final ResourceLocation TEXTURE = ResourceLocation.withDefaultNamespace("textures/gui/container/generic_54.png");
+    private static final int ROWS = ArmoryMenu.PAGE_SIZE / 9;
+
+    private Button previous;
+    private Button next;
+
+    public ArmoryScreen(ArmoryMenu menu, Inventory inventory, Component title) {
+        super(menu, inventory, title);
+        imageHeight = 114 + ROWS * 18;
+        inventoryLabelY = imageHeight - 94;
+    }
+
+    @Override
+    protected void init() {
+        super.init();
+        previous = addRenderableWidget(Button.builder(Component.literal("<"), button -> turnTo(menu.page() - 1))
+                .bounds(leftPos + imageWidth - 44, topPos + 4, 12, 12).build());
+        next = addRenderableWidget(Button.builder(Component.literal(">"), button -> turnTo(menu.page() + 1))
+                .bounds(leftPos + imageWidth - 20, topPos + 4, 12, 12).build());
+    }
+
+    private void turnTo(int page) {
+        PacketDistributor.sendToServer(new ArmoryActionPayload(menu.containerId, ArmoryActionPayload.PAGE, page));
+    }
+
+    @Override
+    protected void containerTick() {
+        super.containerTick();
+        previous.active = menu.page() > 0;
+        next.active = menu.page() < menu.pages() - 1;
+    }
+
+    @Override
+    public void render(@NotNull GuiGraphics graphics, int mouseX, int mouseY, float partialTick) {
+        super.render(graphics, mouseX, mouseY, partialTick);
+        int hovered = entryAt(mouseX, mouseY);
+        if (hovered >= 0 && menu.getCarried().isEmpty()) {
+            graphics.renderTooltip(font, menu.entries().get(hovered), mouseX, mouseY);
+        } else {
+            renderTooltip(graphics, mouseX, mouseY);
+        }
+    }
+
+    @Override
+    protected void renderBg(@NotNull GuiGraphics graphics, float partialTick, int mouseX, int mouseY) {
+        graphics.blit(TEXTURE, leftPos, topPos, 0, 0, imageWidth, ROWS * 18 + 17);
+        graphics.blit(TEXTURE, leftPos, topPos + ROWS * 18 + 17, 0, 126, imageWidth, 96);
+
+        List<ItemStack> entries = menu.entries();
+        for (int i = 0; i < entries.size(); i++) {
+            int x = leftPos + 8 + i % 9 * 18;
+            int y = topPos + 18 + i / 9 * 18;
+            graphics.renderItem(entries.get(i), x, y);
+            int count = menu.count(i);
+            graphics.renderItemDecorations(font, entries.get(i), x, y, count == 1 ? null : compact(count));
+        }
+
+        int hovered = entryAt(mouseX, mouseY);
+        if (hovered >= 0) {
+            renderSlotHighlight(graphics, leftPos + 8 + hovered % 9 * 18, topPos + 18 + hovered / 9 * 18, 0);
+        }
+    }
+
+    @Override
+    protected void renderLabels(@NotNull GuiGraphics graphics, int mouseX, int mouseY) {
+        super.renderLabels(graphics, mouseX, mouseY);
+        String page = "%d/%d".formatted(menu.page() + 1, menu.pages());
+        graphics.drawString(font, page, imageWidth - 47 - font.width(page), titleLabelY, 0x404040, false);
+    }
+
+    @Override
+    public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        int entry = entryAt(mouseX, mouseY);
+        if (entry >= 0 && button == 0 && menu.getCarried().isEmpty()) {
+            byte action = hasShiftDown() ? ArmoryActionPayload.TAKE_STACK : ArmoryActionPayload.TAKE_ONE;
+            PacketDistributor.sendToServer(new ArmoryActionPayload(menu.containerId, action, entry));
+            return true;
+        }
+        return super.mouseClicked(mouseX, mouseY, button);
+    }
+
+    private int entryAt(double mouseX, double mouseY) {
+        int col = (int) Math.floor((mouseX - leftPos - 7) / 18);
+        int row = (int) Math.floor((mouseY - topPos - 17) / 18);
+        if (col < 0 || col >= 9 || row < 0 || row >= ROWS) {
+            return -1;
+        }
+        int index = row * 9 + col;
+        return index < menu.entries().size() && !menu.entries().get(index).isEmpty() ? index : -1;
+    }
+
+    private static String compact(int count) {
+        if (count < 1000) {
+            return Integer.toString(count);
+        }
+        return count < 1_000_000 ? count / 1000 + "k" : count / 1_000_000 + "M";
+    }
+
+    @EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, bus = EventBusSubscriber.Bus.MOD, value = Dist.CLIENT)
+    public static final class ModBusEvents {
+
+        private ModBusEvents() {}
+
+        @SubscribeEvent
+        public static void onRegisterMenuScreens(RegisterMenuScreensEvent event) {
+            event.register(MenuRegistry.ARMORY.get(), ArmoryScreen::new);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.concinnity.tfcweaponsplus.block.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.client.WeaponMeshCache;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Collects the weapons of every visible rack, and those sheathed on players, while the level's entities and block
+ * entities are rendered, and draws them grouped by mesh entry once block entities are done, so each (geo model,
+ * metal tier, texture) group is written into a single buffer and flushed with one draw call. Instance storage is
+ * kept between frames and only grows.
+ * <p>
+ * Outside of level rendering, such as a player drawn in the inventory screen, nothing would flush the batch in
+ * that pose, so {@link #isCollecting()} tells callers to draw directly instead.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, value = Dist.CLIENT)
+public final class WeaponRackBatch {
+
+    private static final Map<WeaponMeshCache.Entry, Group> GROUPS = new IdentityHashMap<>();
+    private static final Matrix4f POSE = new Matrix4f();
+    private static final Matrix3f NORMAL = new Matrix3f();
+    private static final Vector3f SCRATCH = new Vector3f();
+
+    private static boolean collecting;
+
+    private WeaponRackBatch() {}
+
+    public static void add(WeaponMeshCache.Entry entry, PoseStack.Pose pose, int packedLight, int packedOverlay) {
+        GROUPS.computeIfAbsent(entry, e -> new Group()).add(pose, packedLight, packedOverlay);
+    }
+
+    /**
+     * @return whether the level's entities and block entities are being rendered, so that what is added is drawn
+     * in this frame
+     */
+    public static boolean isCollecting() {
+        return collecting;
+    }
+
+    @SubscribeEvent
+    public static void onRenderLevelStage(RenderLevelStageEvent event) {
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_CUTOUT_BLOCKS) {
+            collecting = true;
+            return;
+        }
+        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_BLOCK_ENTITIES) {
+            return;
+        }
+        collecting = false;
+        if (GROUPS.isEmpty()) {
+            return;
+        }
+
+        MultiBufferSource.BufferSource buffers = Minecraft.getInstance().renderBuffers().bufferSource();
+        for (Map.Entry<WeaponMeshCache.Entry, Group> entry : GROUPS.entrySet()) {
+            Group group = entry.getValue();
+            if (group.size == 0) {
+                continue;
+            }
+
+            WeaponMeshCache.Entry mesh = entry.getKey();
+            VertexConsumer consumer = buffers.getBuffer(mesh.renderType());
+            for (int i = 0; i < group.size; i++) {
+                POSE.set(group.poses, i * 16);
+                NORMAL.set(group.normals, i * 9);
+                mesh.mesh().render(consumer, POSE, NORMAL, group.lights[i], group.overlays[i], SCRATCH);
+            }
+            buffers.endBatch(mesh.renderType());
+            group.size = 0;
+        }
+    }
+
+    public static void clear() {
+        GROUPS.clear();
+    }
+
+    private static final class Group {
+        private float[] poses = new float[16 * 8];
+        private float[] normals = new float[9 * 8];
+        private int[] lights = new int[8];
+        private int[] overlays = new int[8];
+        private int size;
+
+        private void add(PoseStack.Pose pose, int packedLight, int packedOverlay) {
+            if (size == lights.length) {
+                int capacity = size * 2;
+                poses = Arrays.copyOf(poses, capacity * 16);
+                normals = Arrays.copyOf(normals, capacity * 9);
+                lights = Arrays.copyOf(lights, capacity);
+                overlays = Arrays.copyOf(overlays, capacity);
+            }
+            pose.pose().get(poses, size * 16);
+            pose.normal().get(normals, size * 9);
+            lights[size] = packedLight;
+            overlays[size] = packedOverlay;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.concinnity.tfcweaponsplus.block.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.block.custom.WeaponRackBlock;
+import com.concinnity.tfcweaponsplus.block.entity.WeaponRackBlockEntity;
+import com.concinnity.tfcweaponsplus.item.client.WeaponMeshCache;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.registration.BlockEntityRegistry;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.math.Axis;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
+import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.core.Direction;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.EntityRenderersEvent;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Positions each racked weapon and hands it to {@link WeaponRackBatch} instead of drawing it through GeckoLib.
+ * Racks outside the frustum are culled by their render bounding box before this is called.
+ */
+public class WeaponRackRenderer implements BlockEntityRenderer<WeaponRackBlockEntity> {
+    private final ItemRenderer itemRenderer;
+
+    public WeaponRackRenderer(BlockEntityRendererProvider.Context context) {
+        this.itemRenderer = context.getItemRenderer();
+    }
+
+    @Override
+    public void render(WeaponRackBlockEntity rack, float partialTick, @NotNull PoseStack poseStack, @NotNull MultiBufferSource bufferSource,
+                       int packedLight, int packedOverlay) {
+        Direction facing = rack.getBlockState().getValue(WeaponRackBlock.FACING);
+
+        for (int slot = 0; slot < WeaponRackBlockEntity.SLOTS; slot++) {
+            ItemStack stack = rack.getItem(slot);
+            if (!(stack.getItem() instanceof AnimatedItem item)) {
+                continue;
+            }
+            WeaponMeshCache.Entry entry = WeaponMeshCache.get(item);
+            if (entry == null) {
+                continue;
+            }
+
+            poseStack.pushPose();
+            poseStack.translate(0.5f, 0.5f, 0.5f);
+            poseStack.mulPose(Axis.YP.rotationDegrees(180.0f - facing.toYRot()));
+            poseStack.translate(0.0f, (3 + 4 * slot) / 16f - 0.5f, 0.15f);
+            poseStack.mulPose(Axis.ZP.rotationDegrees(90.0f));
+            itemRenderer.getModel(stack, rack.getLevel(), null, 0).applyTransform(ItemDisplayContext.FIXED, poseStack, false);
+            // ItemRenderer's -0.5 offset followed by GeoItemRenderer's recentring
+            poseStack.translate(0.0f, 0.01f, 0.0f);
+            WeaponRackBatch.add(entry, poseStack.last(), packedLight, packedOverlay);
+            poseStack.popPose();
+        }
+    }
+
+    @Override
+    public @NotNull AABB getRenderBoundingBox(WeaponRackBlockEntity rack) {
+        return rack.getRenderBounds();
+    }
+
+    @EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, bus = EventBusSubscriber.Bus.MOD, value = Dist.CLIENT)
+    public static final class ModBusEvents {
+
+        private ModBusEvents() {}
+
+        @SubscribeEvent
+        public static void onRegisterRenderers(EntityRenderersEvent.RegisterRenderers event) {
+            event.registerBlockEntityRenderer(BlockEntityRegistry.WEAPON_RACK.get(), WeaponRackRenderer::new);
+        }
+
+        @SubscribeEvent
+        public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+            event.registerReloadListener((ResourceManagerReloadListener) resourceManager -> WeaponRackBatch.clear());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.concinnity.tfcweaponsplus.block.custom;
+
+import com.concinnity.tfcweaponsplus.block.entity.ArmoryBlockEntity;
+import com.concinnity.tfcweaponsplus.block.menu.ArmoryMenu;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.mojang.serialization.MapCodec;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.network.chat.Component;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.Containers;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.ItemInteractionResult;
+import net.minecraft.world.SimpleMenuProvider;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.context.BlockPlaceContext;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Explosion;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.HorizontalDirectionalBlock;
+import net.minecraft.world.level.block.Mirror;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+import net.minecraft.world.level.block.state.properties.DirectionProperty;
+import net.minecraft.world.phys.BlockHitResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bulk store for weapons and components, see {@link ArmoryBlockEntity}. Using it with one of our items puts the
+ * held stack away; using it otherwise opens the paged {@link ArmoryMenu}.
+ */
+public class ArmoryBlock extends BaseEntityBlock {
+    public static final MapCodec<ArmoryBlock> CODEC = simpleCodec(ArmoryBlock::new);
+    public static final DirectionProperty FACING = HorizontalDirectionalBlock.FACING;
+
+    private static final Component TITLE = Component.translatable("container.tfcweaponsplus.armory");
+    private static final Component LOCKED = Component.translatable("container.tfcweaponsplus.armory.locked");
+
+    public ArmoryBlock(Properties properties) {
+        super(properties);
+        registerDefaultState(stateDefinition.any().setValue(FACING, Direction.NORTH));
+    }
+
+    @Override
+    protected @NotNull MapCodec<? extends BaseEntityBlock> codec() {
+        return CODEC;
+    }
+
+    @Override
+    protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> builder) {
+        builder.add(FACING);
+    }
+
+    @Override
+    public BlockState getStateForPlacement(BlockPlaceContext context) {
+        return defaultBlockState().setValue(FACING, context.getHorizontalDirection().getOpposite());
+    }
+
+    @Override
+    protected @NotNull BlockState rotate(BlockState state, Rotation rotation) {
+        return state.setValue(FACING, rotation.rotate(state.getValue(FACING)));
+    }
+
+    @Override
+    protected @NotNull BlockState mirror(BlockState state, Mirror mirror) {
+        return state.rotate(mirror.getRotation(state.getValue(FACING)));
+    }
+
+    @Override
+    protected @NotNull RenderShape getRenderShape(@NotNull BlockState state) {
+        return RenderShape.MODEL;
+    }
+
+    @Override
+    public @Nullable BlockEntity newBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
+        return new ArmoryBlockEntity(pos, state);
+    }
+
+    @Override
+    protected @NotNull ItemInteractionResult useItemOn(@NotNull ItemStack stack, @NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos,
+                                                       @NotNull Player player, @NotNull InteractionHand hand, @NotNull BlockHitResult hitResult) {
+        if (!(stack.getItem() instanceof AnimatedItem) || player.isSecondaryUseActive()
+                || !(level.getBlockEntity(pos) instanceof ArmoryBlockEntity armory)) {
+            return ItemInteractionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION;
+        }
+        if (!armory.accepts(stack)) {
+            return ItemInteractionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION;
+        }
+
+        if (!level.isClientSide) {
+            player.setItemInHand(hand, armory.insert(stack));
+            level.playSound(null, pos, SoundEvents.ARMOR_EQUIP_IRON.value(), SoundSource.BLOCKS, 0.6f, 1.0f);
+        }
+        return ItemInteractionResult.sidedSuccess(level.isClientSide);
+    }
+
+    @Override
+    protected @NotNull InteractionResult useWithoutItem(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos,
+                                                        @NotNull Player player, @NotNull BlockHitResult hitResult) {
+        if (!(level.getBlockEntity(pos) instanceof ArmoryBlockEntity armory)) {
+            return InteractionResult.PASS;
+        }
+
+        if (!level.isClientSide) {
+            if (armory.isReadable()) {
+                player.openMenu(new SimpleMenuProvider((id, inventory, p) -> new ArmoryMenu(id, inventory, armory), TITLE), pos);
+            } else {
+                player.displayClientMessage(LOCKED, true);
+            }
+        }
+        return InteractionResult.sidedSuccess(level.isClientSide);
+    }
+
+    /**
+     * A locked armory can't be drained, so it is kept from being blown up along with what it holds.
+     */
+    @Override
+    public float getExplosionResistance(BlockState state, BlockGetter level, BlockPos pos, Explosion explosion) {
+        if (level.getBlockEntity(pos) instanceof ArmoryBlockEntity armory && !armory.isReadable()) {
+            return Blocks.BEDROCK.getExplosionResistance();
+        }
+        return super.getExplosionResistance(state, level, pos, explosion);
+    }
+
+    @Override
+    protected void onRemove(BlockState state, @NotNull Level level, @NotNull BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (!state.is(newState.getBlock()) && level.getBlockEntity(pos) instanceof ArmoryBlockEntity armory && armory.isReadable()) {
+            armory.drainTo(stack -> Containers.dropItemStack(level, pos.getX(), pos.getY(), pos.getZ(), stack));
+        }
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+}
@@ -0,0 +1,283 @@
+package com.concinnity.tfcweaponsplus.block.entity;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.registration.BlockEntityRegistry;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.component.DataComponentMap;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.VarInt;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.CustomData;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Bulk storage for our items. Items with only their default components are kept as a count per
+ * {@link ItemVariants} ordinal; anything else, such as a worn or dulled weapon, is kept as a full stack, up to
+ * {@link #MAX_EXTRAS} of them.
+ * <p>
+ * Counts are saved as a packed varint array of (ordinal gap, count) pairs, with a hash of the variant table so that
+ * a save from a build with a different table is never misread. Such a save is kept as it is and the armory stays
+ * locked; broken, it goes with the dropped armory. Contents are never sent with the chunk: an open
+ * {@code ArmoryMenu} sends the page being viewed.
+ */
+public class ArmoryBlockEntity extends BlockEntity {
+    public static final int MAX_EXTRAS = 54;
+    private static final int LAYOUT = layoutHash();
+
+    private final int[] counts = new int[ItemVariants.COUNT];
+    private final List<ItemStack> extras = new ArrayList<>();
+    private int variantEntries;
+    private int revision;
+    @Nullable
+    private CompoundTag unreadable;
+
+    public ArmoryBlockEntity(BlockPos pos, BlockState state) {
+        super(BlockEntityRegistry.ARMORY.get(), pos, state);
+    }
+
+    private static int layoutHash() {
+        int hash = ItemVariants.COUNT;
+        for (int i = 0; i < ItemVariants.COUNT; i++) {
+            hash = 31 * hash + ItemVariants.registryPath(i).hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * @return false if the armory was saved with a different variant table and can't be used
+     */
+    public boolean isReadable() {
+        return unreadable == null;
+    }
+
+    /**
+     * Bumped on every change, so that open menus know to resend their page.
+     */
+    public int revision() {
+        return revision;
+    }
+
+    public boolean accepts(ItemStack stack) {
+        return isReadable() && stack.getItem() instanceof AnimatedItem
+                && (stack.isComponentsPatchEmpty() || extras.size() < MAX_EXTRAS);
+    }
+
+    /**
+     * @return what could not be stored
+     */
+    public ItemStack insert(ItemStack stack) {
+        if (!accepts(stack)) {
+            return stack;
+        }
+
+        int ordinal = ((AnimatedItem) stack.getItem()).getVariant().ordinal();
+        if (stack.isComponentsPatchEmpty() && ordinal >= 0) {
+            int stored = (int) Math.min(Integer.MAX_VALUE, (long) counts[ordinal] + stack.getCount());
+            int added = stored - counts[ordinal];
+            if (counts[ordinal] == 0 && added > 0) {
+                variantEntries++;
+            }
+            counts[ordinal] = stored;
+            changed();
+            return stack.copyWithCount(stack.getCount() - added);
+        }
+
+        if (extras.size() >= MAX_EXTRAS) {
+            return stack;
+        }
+        extras.add(stack.copy());
+        changed();
+        return ItemStack.EMPTY;
+    }
+
+    /**
+     * Entries are every stored variant in ordinal order, then every full stack.
+     */
+    public int entryCount() {
+        return variantEntries + extras.size();
+    }
+
+    /**
+     * Passes {@code size} entries from {@code first} on to the consumers: variant ordinal and count, or full stack.
+     */
+    public void forEntries(int first, int size, EntryConsumer variants, Consumer<ItemStack> stacks) {
+        int index = 0;
+        for (int ordinal = 0; ordinal < counts.length && index < first + size; ordinal++) {
+            if (counts[ordinal] > 0) {
+                if (index >= first) {
+                    variants.accept(ordinal, counts[ordinal]);
+                }
+                index++;
+            }
+        }
+        for (int i = Math.max(0, first - index); i < extras.size() && index + i < first + size; i++) {
+            stacks.accept(extras.get(i));
+        }
+    }
+
+    /**
+     * Takes up to {@code max} (and at most a stack) of the entry at {@code index}.
+     */
+    public ItemStack take(int index, int max) {
+        if (index < 0 || index >= entryCount()) {
+            return ItemStack.EMPTY;
+        }
+        if (index >= variantEntries) {
+            ItemStack stack = extras.remove(index - variantEntries);
+            changed();
+            return stack;
+        }
+
+        int ordinal = ordinalAt(index);
+        AnimatedItem item = ItemRegistry.get(ordinal);
+        if (item == null) {
+            return ItemStack.EMPTY;
+        }
+        int taken = Math.min(Math.min(max, counts[ordinal]), item.getDefaultMaxStackSize());
+        counts[ordinal] -= taken;
+        if (counts[ordinal] == 0) {
+            variantEntries--;
+        }
+        changed();
+        return new ItemStack(item, taken);
+    }
+
+    private int ordinalAt(int index) {
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            if (counts[ordinal] > 0 && index-- == 0) {
+                return ordinal;
+            }
+        }
+        throw new IndexOutOfBoundsException(index);
+    }
+
+    /**
+     * Hands every item out as stacks, for when the block is broken. Counts of variants that aren't registered are
+     * left alone, and go with the dropped armory instead.
+     */
+    public void drainTo(Consumer<ItemStack> drops) {
+        int kept = 0;
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            if (counts[ordinal] == 0) {
+                continue;
+            }
+            AnimatedItem item = ItemRegistry.get(ordinal);
+            if (item == null) {
+                kept++;
+                continue;
+            }
+            while (counts[ordinal] > 0) {
+                int taken = Math.min(counts[ordinal], item.getDefaultMaxStackSize());
+                counts[ordinal] -= taken;
+                drops.accept(new ItemStack(item, taken));
+            }
+        }
+        extras.forEach(drops);
+        extras.clear();
+        variantEntries = kept;
+        changed();
+    }
+
+    /**
+     * A locked armory, or one still holding variants that aren't registered, keeps what it holds in the dropped
+     * item, which restores it when placed again.
+     */
+    @Override
+    protected void collectImplicitComponents(DataComponentMap.@NotNull Builder components) {
+        super.collectImplicitComponents(components);
+        if (level != null && (!isReadable() || entryCount() > 0)) {
+            CompoundTag tag = saveCustomOnly(level.registryAccess());
+            tag.remove("x");
+            tag.remove("y");
+            tag.remove("z");
+            BlockEntity.addEntityType(tag, getType());
+            components.set(DataComponents.BLOCK_ENTITY_DATA, CustomData.of(tag));
+        }
+    }
+
+    private void changed() {
+        revision++;
+        setChanged();
+    }
+
+    @Override
+    protected void saveAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider registries) {
+        super.saveAdditional(tag, registries);
+        if (unreadable != null) {
+            tag.merge(unreadable);
+            return;
+        }
+
+        tag.putInt("layout", LAYOUT);
+        ByteBuf packed = Unpooled.buffer();
+        int previous = -1;
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            if (counts[ordinal] > 0) {
+                VarInt.write(packed, ordinal - previous - 1);
+                VarInt.write(packed, counts[ordinal]);
+                previous = ordinal;
+            }
+        }
+        tag.putByteArray("counts", ByteBufUtil.getBytes(packed));
+
+        if (!extras.isEmpty()) {
+            ListTag list = new ListTag();
+            extras.forEach(stack -> list.add(stack.save(registries)));
+            tag.put("extras", list);
+        }
+    }
+
+    @Override
+    protected void loadAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider registries) {
+        super.loadAdditional(tag, registries);
+        Arrays.fill(counts, 0);
+        extras.clear();
+        variantEntries = 0;
+        unreadable = null;
+
+        if (tag.contains("layout") && tag.getInt("layout") != LAYOUT) {
+            TFCWeaponsPlus.LOGGER.error("Armory at {} was saved with a different set of item variants, keeping it locked and unchanged", worldPosition);
+            unreadable = tag.copy();
+            return;
+        }
+
+        ByteBuf packed = Unpooled.wrappedBuffer(tag.getByteArray("counts"));
+        int ordinal = -1;
+        while (packed.isReadable()) {
+            ordinal += VarInt.read(packed) + 1;
+            int count = VarInt.read(packed);
+            if (ordinal < counts.length && count > 0) {
+                counts[ordinal] = count;
+                variantEntries++;
+            }
+        }
+
+        ListTag list = tag.getList("extras", Tag.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++) {
+            ItemStack.parse(registries, list.getCompound(i)).ifPresent(extras::add);
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int ordinal, int count);
+    }
+}
@@ -0,0 +1,89 @@
+package com.concinnity.tfcweaponsplus.block.entity;
+
+import com.concinnity.tfcweaponsplus.registration.BlockEntityRegistry;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.NonNullList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.world.ContainerHelper;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+public class WeaponRackBlockEntity extends BlockEntity {
+    public static final int SLOTS = 4;
+    /**
+     * How far racked weapons reach past the block. The longest, the greataxe and greatsword, lie about ten pixels
+     * either side of the centre at their fixed display scale, so a quarter block covers them with room to spare.
+     */
+    private static final double WEAPON_OVERHANG = 0.25;
+
+    private final NonNullList<ItemStack> items = NonNullList.withSize(SLOTS, ItemStack.EMPTY);
+    private AABB renderBounds;
+
+    public WeaponRackBlockEntity(BlockPos pos, BlockState state) {
+        super(BlockEntityRegistry.WEAPON_RACK.get(), pos, state);
+    }
+
+    public ItemStack getItem(int slot) {
+        return items.get(slot);
+    }
+
+    public NonNullList<ItemStack> getItems() {
+        return items;
+    }
+
+    public AABB getRenderBounds() {
+        if (renderBounds == null) {
+            renderBounds = new AABB(worldPosition).inflate(WEAPON_OVERHANG);
+        }
+        return renderBounds;
+    }
+
+    public void setItem(int slot, ItemStack stack) {
+        items.set(slot, stack);
+        markUpdated();
+    }
+
+    public ItemStack removeItem(int slot) {
+        ItemStack removed = items.set(slot, ItemStack.EMPTY);
+        markUpdated();
+        return removed;
+    }
+
+    private void markUpdated() {
+        setChanged();
+        if (level != null) {
+            level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), Block.UPDATE_CLIENTS);
+        }
+    }
+
+    @Override
+    protected void saveAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider registries) {
+        super.saveAdditional(tag, registries);
+        ContainerHelper.saveAllItems(tag, items, registries);
+    }
+
+    @Override
+    protected void loadAdditional(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider registries) {
+        super.loadAdditional(tag, registries);
+        items.clear();
+        ContainerHelper.loadAllItems(tag, items, registries);
+    }
+
+    @Override
+    public @NotNull CompoundTag getUpdateTag(@NotNull HolderLookup.Provider registries) {
+        return saveCustomOnly(registries);
+    }
+
+    @Override
+    public Packet<ClientGamePacketListener> getUpdatePacket() {
+        return ClientboundBlockEntityDataPacket.create(this);
+    }
+}
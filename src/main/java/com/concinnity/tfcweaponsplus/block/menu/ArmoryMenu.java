@@ -0,0 +1,171 @@
+package com.concinnity.tfcweaponsplus.block.menu;
+
+import com.concinnity.tfcweaponsplus.block.entity.ArmoryBlockEntity;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.network.ArmoryActionPayload;
+import com.concinnity.tfcweaponsplus.network.ArmoryPagePayload;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.concinnity.tfcweaponsplus.registration.MenuRegistry;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.Container;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Menu of an {@link ArmoryBlockEntity}. Only the player's inventory is made of slots; the armory is shown a page of
+ * {@link #PAGE_SIZE} entries at a time, sent as an {@link ArmoryPagePayload} whenever the armory or the page changes,
+ * and taken from with {@link ArmoryActionPayload}s.
+ */
+public class ArmoryMenu extends AbstractContainerMenu {
+    public static final int PAGE_SIZE = 27;
+
+    @Nullable
+    private final ArmoryBlockEntity armory;
+    private final Player player;
+    private int page;
+    private int sentRevision = -1;
+    private int sentPage = -1;
+
+    // client view of the current page
+    private int pages = 1;
+    private final List<ItemStack> entries = new ArrayList<>();
+    private final List<Integer> counts = new ArrayList<>();
+
+    public ArmoryMenu(int containerId, Inventory inventory, RegistryFriendlyByteBuf buffer) {
+        this(containerId, inventory, (ArmoryBlockEntity) null);
+        buffer.readBlockPos();
+    }
+
+    public ArmoryMenu(int containerId, Inventory inventory, @Nullable ArmoryBlockEntity armory) {
+        super(MenuRegistry.ARMORY.get(), containerId);
+        this.armory = armory;
+        this.player = inventory.player;
+
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 9; col++) {
+                addSlot(new Slot(inventory, col + row * 9 + 9, 8 + col * 18, 85 + row * 18));
+            }
+        }
+        for (int col = 0; col < 9; col++) {
+            addSlot(new Slot(inventory, col, 8 + col * 18, 143));
+        }
+    }
+
+    public int page() {
+        return page;
+    }
+
+    public int pages() {
+        return pages;
+    }
+
+    /**
+     * @return the entries of the current page, client side, with an empty stack in place of any variant that isn't
+     * registered, so that indexes still match the server's
+     */
+    public List<ItemStack> entries() {
+        return entries;
+    }
+
+    /**
+     * @return how many of the entry at {@code index} are stored, which may be more than a stack
+     */
+    public int count(int index) {
+        return counts.get(index);
+    }
+
+    public void receive(ArmoryPagePayload payload) {
+        page = payload.page();
+        pages = payload.pages();
+        entries.clear();
+        counts.clear();
+        for (int i = 0; i < payload.ordinals().length; i++) {
+            AnimatedItem item = ItemRegistry.get(payload.ordinals()[i]);
+            entries.add(item != null ? new ItemStack(item) : ItemStack.EMPTY);
+            counts.add(payload.counts()[i]);
+        }
+        payload.extras().forEach(stack -> {
+            entries.add(stack);
+            counts.add(stack.getCount());
+        });
+    }
+
+    public void handle(Player player, byte action, int value) {
+        if (armory == null || !armory.isReadable()) {
+            return;
+        }
+        switch (action) {
+            case ArmoryActionPayload.PAGE -> page = Mth.clamp(value, 0, pageCount() - 1);
+            case ArmoryActionPayload.TAKE_ONE -> take(player, value, 1);
+            case ArmoryActionPayload.TAKE_STACK -> take(player, value, Integer.MAX_VALUE);
+            default -> {}
+        }
+    }
+
+    private void take(Player player, int index, int max) {
+        if (index < 0 || index >= PAGE_SIZE) {
+            return;
+        }
+        ItemStack taken = armory.take(page * PAGE_SIZE + index, max);
+        if (!player.getInventory().add(taken)) {
+            armory.insert(taken);
+        }
+    }
+
+    private int pageCount() {
+        return armory == null ? pages : Math.max(1, Mth.positiveCeilDiv(armory.entryCount(), PAGE_SIZE));
+    }
+
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        if (armory == null || !(player instanceof ServerPlayer serverPlayer)) {
+            return;
+        }
+
+        int pageCount = pageCount();
+        page = Math.min(page, pageCount - 1);
+        if (armory.revision() == sentRevision && page == sentPage) {
+            return;
+        }
+        sentRevision = armory.revision();
+        sentPage = page;
+
+        List<Integer> ordinals = new ArrayList<>();
+        List<Integer> variantCounts = new ArrayList<>();
+        List<ItemStack> extras = new ArrayList<>();
+        armory.forEntries(page * PAGE_SIZE, PAGE_SIZE, (ordinal, count) -> {
+            ordinals.add(ordinal);
+            variantCounts.add(count);
+        }, extras::add);
+        PacketDistributor.sendToPlayer(serverPlayer, new ArmoryPagePayload(containerId, page, pageCount,
+                ordinals.stream().mapToInt(Integer::intValue).toArray(),
+                variantCounts.stream().mapToInt(Integer::intValue).toArray(),
+                extras));
+    }
+
+    @Override
+    public @NotNull ItemStack quickMoveStack(@NotNull Player player, int index) {
+        Slot slot = slots.get(index);
+        if (armory != null && slot.hasItem() && armory.accepts(slot.getItem())) {
+            slot.set(armory.insert(slot.getItem()));
+        }
+        return ItemStack.EMPTY;
+    }
+
+    @Override
+    public boolean stillValid(@NotNull Player player) {
+        return armory == null || (armory.isReadable() && Container.stillValidBlockEntity(armory, player));
+    }
+}
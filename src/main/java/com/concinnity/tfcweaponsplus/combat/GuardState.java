@@ -0,0 +1,70 @@
+package com.concinnity.tfcweaponsplus.combat;
+
+/**
+ * Per-player guard state, held in fixed primitive fields. On the server every field is used. On the client only
+ * {@link #state()} is kept, as received from the server.
+ */
+public final class GuardState {
+    public static final byte IDLE = 0;
+    /** Guard just raised: a hit in this window is parried outright. */
+    public static final byte PARRY = 1;
+    public static final byte GUARD = 2;
+    /** Stamina ran out under a hit; the guard can't be raised until the break is over. */
+    public static final byte BROKEN = 3;
+
+    public static final int MAX_STAMINA = 100;
+
+    private byte state = IDLE;
+    private long stateTick;
+    private byte parryWindow;
+    private int stamina = MAX_STAMINA;
+    private long staminaTick;
+
+    public byte state() {
+        return state;
+    }
+
+    public boolean isIdle() {
+        return state == IDLE;
+    }
+
+    long stateTick() {
+        return stateTick;
+    }
+
+    int parryWindow() {
+        return parryWindow;
+    }
+
+    void setState(byte state, long tick) {
+        this.state = state;
+        this.stateTick = tick;
+    }
+
+    void setParryWindow(int ticks) {
+        this.parryWindow = (byte) ticks;
+    }
+
+    /**
+     * Stamina only recovers while the guard is idle, so it is brought up to date lazily instead of every tick.
+     */
+    public int stamina(long tick) {
+        if (state == IDLE && tick > staminaTick) {
+            stamina = (int) Math.min(MAX_STAMINA, stamina + (tick - staminaTick) / GuardTracker.TICKS_PER_STAMINA);
+            staminaTick = tick - (tick - staminaTick) % GuardTracker.TICKS_PER_STAMINA;
+        }
+        return stamina;
+    }
+
+    void setStamina(int stamina, long tick) {
+        this.stamina = Math.max(0, stamina);
+        this.staminaTick = tick;
+    }
+
+    /**
+     * Called on the client with the state sent by the server.
+     */
+    public void receive(byte state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,235 @@
+package com.concinnity.tfcweaponsplus.combat;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.network.GuardPayload;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import com.concinnity.tfcweaponsplus.registration.AttachmentRegistry;
+import net.dries007.tfc.common.component.size.Weight;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.tags.DamageTypeTags;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.living.LivingIncomingDamageEvent;
+import net.neoforged.neoforge.event.entity.living.LivingShieldBlockEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.tick.PlayerTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Guard and parry for swords. Raising the guard (using the item) opens a short parry window in which a hit from
+ * the front is negated and the attacker knocked back. After the window the guard only reduces hits, each costing
+ * stamina, and a hit that empties the stamina breaks the guard for a while. Heavier swords parry in a shorter
+ * window and cost more to raise, but absorb more of each hit.
+ * <p>
+ * Swords are raised with the block use animation, which vanilla otherwise takes for a shield that stops every hit
+ * from the front, so its shield block is turned off while a sword is in use.
+ * <p>
+ * The state lives in a {@link GuardState} attachment. The tick handler returns straight away for idle players and
+ * otherwise only compares ticks. Clients are sent a {@link GuardPayload} on state transitions only.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class GuardTracker {
+    static final int TICKS_PER_STAMINA = 2;
+    private static final int BREAK_TICKS = 60;
+    private static final double PARRY_KNOCKBACK = 0.6;
+
+    private GuardTracker() {}
+
+    public static GuardState get(Player player) {
+        return player.getData(AttachmentRegistry.GUARD);
+    }
+
+    public static boolean canGuard(ItemStack stack) {
+        return guardingWeapon(stack) != null;
+    }
+
+    /**
+     * Raises the guard, if it is not broken. Costs stamina up front.
+     *
+     * @return false if the guard is broken
+     */
+    public static boolean raise(ServerPlayer player, ItemStack stack) {
+        WeaponType weapon = guardingWeapon(stack);
+        GuardState guard = get(player);
+        if (weapon == null || guard.state() == GuardState.BROKEN) {
+            return false;
+        }
+
+        long tick = player.level().getGameTime();
+        Weight weight = weapon.getWeight();
+        guard.setStamina(guard.stamina(tick) - raiseCost(weight), tick);
+        guard.setParryWindow(parryWindow(weight));
+        transition(player, guard, GuardState.PARRY, tick);
+        return true;
+    }
+
+    public static void lower(ServerPlayer player) {
+        GuardState guard = get(player);
+        if (guard.state() == GuardState.PARRY || guard.state() == GuardState.GUARD) {
+            long tick = player.level().getGameTime();
+            guard.setStamina(guard.stamina(tick), tick);
+            transition(player, guard, GuardState.IDLE, tick);
+        }
+    }
+
+    @Nullable
+    private static WeaponType guardingWeapon(ItemStack stack) {
+        return stack.getItem() instanceof AnimatedItem item
+                && item.getVariant().item() instanceof WeaponType weapon
+                && weapon.getWeaponCategory() == WeaponType.WeaponCategory.SWORD ? weapon : null;
+    }
+
+    private static int parryWindow(Weight weight) {
+        return switch (weight) {
+            case VERY_HEAVY -> 4;
+            case HEAVY -> 5;
+            default -> 6;
+        };
+    }
+
+    private static int raiseCost(Weight weight) {
+        return switch (weight) {
+            case VERY_HEAVY -> 18;
+            case HEAVY -> 12;
+            default -> 8;
+        };
+    }
+
+    private static float absorbed(Weight weight) {
+        return switch (weight) {
+            case VERY_HEAVY -> 0.7f;
+            case HEAVY -> 0.6f;
+            default -> 0.5f;
+        };
+    }
+
+    private static void transition(ServerPlayer player, GuardState guard, byte state, long tick) {
+        guard.setState(state, tick);
+        PacketDistributor.sendToPlayersTrackingEntityAndSelf(player, new GuardPayload(player.getId(), state));
+    }
+
+    @SubscribeEvent
+    public static void onPlayerTickPost(PlayerTickEvent.Post event) {
+        if (!(event.getEntity() instanceof ServerPlayer player)) {
+            return;
+        }
+        GuardState guard = get(player);
+        if (guard.isIdle()) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        tick(player, guard);
+        ModProfiler.end(ModProfiler.Subsystem.GUARD_TICK, start);
+    }
+
+    private static void tick(ServerPlayer player, GuardState guard) {
+        long tick = player.level().getGameTime();
+        switch (guard.state()) {
+            case GuardState.PARRY -> {
+                if (!player.isUsingItem()) {
+                    lower(player);
+                } else if (tick - guard.stateTick() >= guard.parryWindow()) {
+                    transition(player, guard, GuardState.GUARD, tick);
+                }
+            }
+            case GuardState.GUARD -> {
+                if (!player.isUsingItem()) {
+                    lower(player);
+                }
+            }
+            case GuardState.BROKEN -> {
+                if (tick - guard.stateTick() >= BREAK_TICKS) {
+                    guard.setStamina(0, tick);
+                    transition(player, guard, GuardState.IDLE, tick);
+                }
+            }
+            default -> {}
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLivingIncomingDamage(LivingIncomingDamageEvent event) {
+        if (!(event.getEntity() instanceof ServerPlayer player)) {
+            return;
+        }
+        GuardState guard = get(player);
+        if (guard.state() != GuardState.PARRY && guard.state() != GuardState.GUARD) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        block(event, player, guard);
+        ModProfiler.end(ModProfiler.Subsystem.COMBAT, start);
+    }
+
+    private static void block(LivingIncomingDamageEvent event, ServerPlayer player, GuardState guard) {
+        DamageSource source = event.getSource();
+        WeaponType weapon = guardingWeapon(player.getUseItem());
+        if (weapon == null || source.is(DamageTypeTags.BYPASSES_SHIELD) || !isInFront(player, source)) {
+            return;
+        }
+
+        long tick = player.level().getGameTime();
+        if (guard.state() == GuardState.PARRY) {
+            event.setCanceled(true);
+            if (source.getDirectEntity() instanceof LivingEntity attacker) {
+                attacker.knockback(PARRY_KNOCKBACK, player.getX() - attacker.getX(), player.getZ() - attacker.getZ());
+            }
+            player.level().playSound(null, player.blockPosition(), SoundEvents.ANVIL_LAND, SoundSource.PLAYERS, 0.4f, 1.8f);
+            return;
+        }
+
+        Weight weight = weapon.getWeight();
+        float absorbed = event.getAmount() * absorbed(weight);
+        event.setAmount(event.getAmount() - absorbed);
+        int stamina = guard.stamina(tick) - Math.max(1, Math.round(absorbed * 4));
+        guard.setStamina(stamina, tick);
+        if (stamina <= 0) {
+            // broken before the item is released, so that lowering it does not send an idle state as well
+            transition(player, guard, GuardState.BROKEN, tick);
+            player.getCooldowns().addCooldown(player.getUseItem().getItem(), BREAK_TICKS);
+            player.stopUsingItem();
+            player.level().playSound(null, player.blockPosition(), SoundEvents.SHIELD_BREAK, SoundSource.PLAYERS, 0.8f, 0.8f);
+        } else {
+            player.level().playSound(null, player.blockPosition(), SoundEvents.SHIELD_BLOCK, SoundSource.PLAYERS, 0.8f, 1.2f);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onShieldBlock(LivingShieldBlockEvent event) {
+        if (event.getEntity() instanceof Player player && canGuard(player.getUseItem())) {
+            event.setBlocked(false);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onStartTracking(PlayerEvent.StartTracking event) {
+        if (event.getTarget() instanceof Player target && event.getEntity() instanceof ServerPlayer watcher) {
+            byte state = get(target).state();
+            if (state != GuardState.IDLE) {
+                PacketDistributor.sendToPlayer(watcher, new GuardPayload(target.getId(), state));
+            }
+        }
+    }
+
+    private static boolean isInFront(Player player, DamageSource source) {
+        Vec3 from = source.getSourcePosition();
+        if (from == null) {
+            return false;
+        }
+        Vec3 look = player.getLookAngle();
+        Vec3 toSource = from.subtract(player.position());
+        return toSource.x * look.x + toSource.z * look.z > 0;
+    }
+}
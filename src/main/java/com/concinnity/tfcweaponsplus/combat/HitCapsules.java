@@ -0,0 +1,185 @@
+package com.concinnity.tfcweaponsplus.combat;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.Mth;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collision capsules for the striking part of each {@link WeaponType}, fitted at startup to the {@code blade*} and
+ * {@code head*} bones of {@code geo/item/weapon/<weapon>.geo.json}, one capsule per bone. The geo files are read
+ * from the mod jar rather than a resource pack, so dedicated servers have them too.
+ * <p>
+ * Capsules are in blocks, in the weapon's own frame: y runs from the grip along the weapon, z towards the edge that
+ * leads the swing and x across the swing plane. A weapon with no geo model gets a single thin capsule as long as
+ * its reach.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, bus = EventBusSubscriber.Bus.MOD)
+public final class HitCapsules {
+    /** Start x, y, z, end x, y, z and radius of each capsule. */
+    static final int STRIDE = 7;
+    /** The hand covers this much of the handle above its lowest point, in model pixels. */
+    private static final float GRIP_OFFSET = 3;
+    private static final float FALLBACK_RADIUS = 0.15f;
+
+    private static final Map<WeaponType, float[]> CAPSULES = new EnumMap<>(WeaponType.class);
+
+    private HitCapsules() {}
+
+    static float[] get(WeaponType weapon) {
+        return CAPSULES.get(weapon);
+    }
+
+    /**
+     * @return how far the striking part of the weapon reaches from the grip
+     */
+    static float length(WeaponType weapon) {
+        float[] capsules = CAPSULES.get(weapon);
+        float length = 0;
+        for (int i = 0; i < capsules.length; i += STRIDE) {
+            length = Math.max(length, Math.max(capsules[i + 1], capsules[i + 4]) + capsules[i + 6]);
+        }
+        return length;
+    }
+
+    static float minRadius(WeaponType weapon) {
+        float[] capsules = CAPSULES.get(weapon);
+        float radius = Float.MAX_VALUE;
+        for (int i = 0; i < capsules.length; i += STRIDE) {
+            radius = Math.min(radius, capsules[i + 6]);
+        }
+        return radius;
+    }
+
+    @SubscribeEvent
+    public static void onCommonSetup(FMLCommonSetupEvent event) {
+        for (WeaponType weapon : WeaponType.values()) {
+            String path = "/assets/%s/geo/item/weapon/%s.geo.json".formatted(TFCWeaponsPlus.MOD_ID, weapon.getSerializedName());
+            float[] capsules = null;
+            try (InputStream stream = HitCapsules.class.getResourceAsStream(path)) {
+                if (stream != null) {
+                    try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                        capsules = fit(GsonHelper.parse(reader));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                TFCWeaponsPlus.LOGGER.warn("Could not read hit capsules from {}", path, e);
+            }
+
+            if (capsules == null || capsules.length == 0) {
+                float reach = (float) weapon.getBaseReach() - MeleeSweep.ARM_LENGTH;
+                capsules = new float[] {0, 0, 0, 0, reach - FALLBACK_RADIUS, 0, FALLBACK_RADIUS};
+            }
+            CAPSULES.put(weapon, capsules);
+        }
+        TFCWeaponsPlus.LOGGER.debug("Fitted hit capsules for {} weapons", CAPSULES.size());
+    }
+
+    private static float[] fit(JsonObject geo) {
+        JsonObject geometry = GsonHelper.getAsJsonArray(geo, "minecraft:geometry").get(0).getAsJsonObject();
+        float gripY = Float.MAX_VALUE;
+        List<float[]> striking = new ArrayList<>();
+        for (JsonElement element : GsonHelper.getAsJsonArray(geometry, "bones")) {
+            JsonObject bone = element.getAsJsonObject();
+            float[] points = corners(GsonHelper.getAsJsonArray(bone, "cubes", new JsonArray()));
+            for (int i = 1; i < points.length; i += 3) {
+                gripY = Math.min(gripY, points[i]);
+            }
+            String name = GsonHelper.getAsString(bone, "name");
+            if (points.length > 0 && (name.startsWith("blade") || name.startsWith("head"))) {
+                striking.add(points);
+            }
+        }
+
+        float[] capsules = new float[striking.size() * STRIDE];
+        for (int i = 0; i < striking.size(); i++) {
+            fitCapsule(striking.get(i), gripY + GRIP_OFFSET, capsules, i * STRIDE);
+        }
+        return capsules;
+    }
+
+    /**
+     * Fits a capsule along the model's y axis around a cloud of points, in model pixels, and writes it in blocks.
+     */
+    private static void fitCapsule(float[] points, float gripY, float[] out, int offset) {
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, minZ = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE, maxZ = -Float.MAX_VALUE;
+        for (int i = 0; i < points.length; i += 3) {
+            minX = Math.min(minX, points[i]);
+            maxX = Math.max(maxX, points[i]);
+            minY = Math.min(minY, points[i + 1]);
+            maxY = Math.max(maxY, points[i + 1]);
+            minZ = Math.min(minZ, points[i + 2]);
+            maxZ = Math.max(maxZ, points[i + 2]);
+        }
+
+        float centerX = (minX + maxX) / 2;
+        float centerZ = (minZ + maxZ) / 2;
+        float radius = 0;
+        for (int i = 0; i < points.length; i += 3) {
+            radius = Math.max(radius, Mth.length(points[i] - centerX, points[i + 2] - centerZ));
+        }
+        float start = Math.min(minY + radius, (minY + maxY) / 2);
+        float end = Math.max(maxY - radius, (minY + maxY) / 2);
+
+        out[offset] = centerX / 16;
+        out[offset + 1] = (start - gripY) / 16;
+        out[offset + 2] = centerZ / 16;
+        out[offset + 3] = centerX / 16;
+        out[offset + 4] = (end - gripY) / 16;
+        out[offset + 5] = centerZ / 16;
+        out[offset + 6] = radius / 16;
+    }
+
+    /**
+     * @return the eight corners of every cube, rotated about their pivots, as x, y, z triples
+     */
+    private static float[] corners(JsonArray cubes) {
+        float[] points = new float[cubes.size() * 8 * 3];
+        Quaternionf rotation = new Quaternionf();
+        Vector3f corner = new Vector3f();
+        int n = 0;
+        for (JsonElement element : cubes) {
+            JsonObject cube = element.getAsJsonObject();
+            Vector3f origin = vector(cube, "origin");
+            Vector3f size = vector(cube, "size");
+            Vector3f pivot = cube.has("pivot") ? vector(cube, "pivot") : new Vector3f(origin).add(size.x / 2, size.y / 2, size.z / 2);
+            Vector3f angles = cube.has("rotation") ? vector(cube, "rotation").mul(Mth.DEG_TO_RAD) : new Vector3f();
+            rotation.rotationZYX(angles.z, angles.y, angles.x);
+
+            for (int i = 0; i < 8; i++) {
+                corner.set(origin.x + ((i & 1) == 0 ? 0 : size.x), origin.y + ((i & 2) == 0 ? 0 : size.y), origin.z + ((i & 4) == 0 ? 0 : size.z))
+                        .sub(pivot)
+                        .rotate(rotation)
+                        .add(pivot);
+                points[n++] = corner.x;
+                points[n++] = corner.y;
+                points[n++] = corner.z;
+            }
+        }
+        return points;
+    }
+
+    private static Vector3f vector(JsonObject json, String key) {
+        JsonArray array = GsonHelper.getAsJsonArray(json, key);
+        return new Vector3f(array.get(0).getAsFloat(), array.get(1).getAsFloat(), array.get(2).getAsFloat());
+    }
+}
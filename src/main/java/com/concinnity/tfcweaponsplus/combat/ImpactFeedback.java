@@ -0,0 +1,117 @@
+package com.concinnity.tfcweaponsplus.combat;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.network.ImpactPayload;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import net.dries007.tfc.common.component.size.Weight;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.Mth;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.PlayLevelSoundEvent;
+import net.neoforged.neoforge.event.entity.living.LivingDamageEvent;
+import net.neoforged.neoforge.event.entity.player.AttackEntityEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * Sends an {@link ImpactPayload} for every hit a player lands with a heavy or very heavy weapon, instead of the
+ * particle and sound packets the effect would otherwise take, one per particle and viewer. Intensity grows with
+ * the damage dealt, up to {@link #FULL_INTENSITY_DAMAGE}.
+ * <p>
+ * The payload replaces vanilla's attack sounds for these hits, which would otherwise play as well: while a player's
+ * attack that sent an impact runs, the attack sounds it plays are cancelled, crit included. Critical hits stay
+ * critical. Their particles are left to vanilla, which sends one small animation packet per viewer for them and
+ * spawns the particles on the client.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class ImpactFeedback {
+    private static final float FULL_INTENSITY_DAMAGE = 20;
+
+    private static final Set<SoundEvent> ATTACK_SOUNDS = Set.of(SoundEvents.PLAYER_ATTACK_STRONG, SoundEvents.PLAYER_ATTACK_WEAK,
+            SoundEvents.PLAYER_ATTACK_CRIT, SoundEvents.PLAYER_ATTACK_KNOCKBACK);
+
+    private static long payloadsSent;
+
+    // the attack being made, which vanilla runs through in one go on the server thread, replaced by the next one
+    @Nullable
+    private static ServerPlayer attacker;
+    private static boolean impactSent;
+
+    private ImpactFeedback() {}
+
+    /**
+     * Impacts sent, counting each once however many players it went to.
+     */
+    public static long getPayloadsSent() {
+        return payloadsSent;
+    }
+
+    public static boolean isHeavy(WeaponType weapon) {
+        return weapon.getWeight().ordinal() >= Weight.HEAVY.ordinal();
+    }
+
+    private static boolean holdsHeavy(Player player) {
+        return player.getMainHandItem().getItem() instanceof AnimatedItem item
+                && item.getVariant().item() instanceof WeaponType weapon && isHeavy(weapon);
+    }
+
+    /**
+     * Starts tracking a player's attack, from before any listener can make it hit.
+     */
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    public static void onAttackEntity(AttackEntityEvent event) {
+        attacker = event.getEntity() instanceof ServerPlayer player && holdsHeavy(player) ? player : null;
+        impactSent = false;
+    }
+
+    /**
+     * Cancels the attack sounds vanilla plays at the attacker once their attack has sent an impact. Nothing else runs
+     * on the server thread while an attack does, so any attack sound played in the attacker's level meanwhile is the
+     * attack's own.
+     */
+    @SubscribeEvent
+    public static void onPlaySoundAtPosition(PlayLevelSoundEvent.AtPosition event) {
+        if (impactSent && attacker != null && event.getLevel() == attacker.level() && event.getSource() == SoundSource.PLAYERS && event.getSound() != null
+                && ATTACK_SOUNDS.contains(event.getSound().value())) {
+            event.setCanceled(true);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTickPost(ServerTickEvent.Post event) {
+        attacker = null;
+        impactSent = false;
+    }
+
+    @SubscribeEvent
+    public static void onLivingDamagePost(LivingDamageEvent.Post event) {
+        DamageSource source = event.getSource();
+        if (event.getNewDamage() <= 0 || !(source.getEntity() instanceof ServerPlayer player) || source.getDirectEntity() != player
+                || !(player.getMainHandItem().getItem() instanceof AnimatedItem item)
+                || !(item.getVariant().item() instanceof WeaponType weapon) || !isHeavy(weapon)) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        LivingEntity target = event.getEntity();
+        int intensity = Mth.clamp(Math.round(event.getNewDamage() / FULL_INTENSITY_DAMAGE * 255), 1, 255);
+        PacketDistributor.sendToPlayersTrackingEntityAndSelf(target, new ImpactPayload((float) target.getX(), (float) target.getY(0.6), (float) target.getZ(),
+                item.getVariant().ordinal(), (byte) weapon.getDamageType().ordinal(), (byte) intensity));
+        payloadsSent++;
+        impactSent |= player == attacker;
+        ModProfiler.end(ModProfiler.Subsystem.COMBAT, start);
+    }
+}
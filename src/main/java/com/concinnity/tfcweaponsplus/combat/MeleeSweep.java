@@ -0,0 +1,196 @@
+package com.concinnity.tfcweaponsplus.combat;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import net.minecraft.util.Mth;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.HumanoidArm;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.AttackEntityEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Sweeps a weapon's {@link HitCapsules} along its swing and reports every entity the blade or head passes through.
+ * Swords swing level from right to left, axes and hammers from overhead down, both from the shoulder of the main
+ * arm. The swing is sampled at enough steps that consecutive capsules overlap at the tip.
+ * <p>
+ * A full strength player attack with one of our weapons also strikes everything else the sweep catches, for
+ * {@link #SWEEP_DAMAGE} of the weapon's damage. The target the player aimed at is still chosen by the client, within
+ * the entity interaction range.
+ * <p>
+ * The broadphase is one entity query over the box around the swing, and the narrowphase a capsule against each
+ * candidate's bounding box. Both fill scratch buffers that are reused between swings, so only server thread
+ * callers may sweep.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class MeleeSweep {
+    static final float ARM_LENGTH = 0.6f;
+    private static final float SWEEP_DAMAGE = 0.5f;
+    private static final float FULL_STRENGTH = 0.9f;
+    private static final double SHOULDER_DROP = 0.25;
+    private static final double SHOULDER_WIDTH = 0.3;
+    private static final int MAX_STEPS = 24;
+    private static final int SEARCH_ITERATIONS = 12;
+    private static final double GOLDEN = (Math.sqrt(5) - 1) / 2;
+
+    private static final EntityTypeTest<Entity, LivingEntity> LIVING = EntityTypeTest.forClass(LivingEntity.class);
+    private static final Predicate<LivingEntity> CANDIDATE = entity -> entity.isAlive() && entity.isPickable() && !entity.isSpectator();
+    private static final List<LivingEntity> CANDIDATES = new ArrayList<>();
+    private static final List<LivingEntity> HITS = new ArrayList<>();
+    private static double[] segments = new double[0];
+
+    private MeleeSweep() {}
+
+    /**
+     * Adds every living entity the swing passes through to {@code hits}, which is not cleared first.
+     *
+     * @return the number of entities added
+     */
+    public static int sweep(LivingEntity attacker, WeaponType weapon, List<LivingEntity> hits) {
+        float[] capsules = HitCapsules.get(weapon);
+        int count = capsules.length / HitCapsules.STRIDE;
+        boolean overhead = weapon.getWeaponCategory() != WeaponType.WeaponCategory.SWORD;
+        float arcStart = 60 * Mth.DEG_TO_RAD;
+        float arcEnd = (overhead ? -40 : -60) * Mth.DEG_TO_RAD;
+        float reach = ARM_LENGTH + HitCapsules.length(weapon);
+        int steps = Mth.clamp(Mth.ceil((arcStart - arcEnd) * reach / (2 * HitCapsules.minRadius(weapon))) + 1, 2, MAX_STEPS);
+        if (segments.length < steps * count * HitCapsules.STRIDE) {
+            segments = new double[MAX_STEPS * count * HitCapsules.STRIDE];
+        }
+
+        // view frame: forward, right and up
+        float yaw = attacker.getYRot() * Mth.DEG_TO_RAD;
+        float pitch = attacker.getXRot() * Mth.DEG_TO_RAD;
+        double fx = -Mth.sin(yaw) * Mth.cos(pitch), fy = -Mth.sin(pitch), fz = Mth.cos(yaw) * Mth.cos(pitch);
+        double rx = -Mth.cos(yaw), rz = -Mth.sin(yaw);
+        double ux = -rz * fy, uy = rz * fx - rx * fz, uz = rx * fy;
+        if (attacker.getMainArm() == HumanoidArm.LEFT) {
+            rx = -rx;
+            rz = -rz;
+        }
+        double ox = attacker.getX() - ux * SHOULDER_DROP + rx * SHOULDER_WIDTH;
+        double oy = attacker.getEyeY() - uy * SHOULDER_DROP;
+        double oz = attacker.getZ() - uz * SHOULDER_DROP + rz * SHOULDER_WIDTH;
+
+        // swing plane: the weapon turns from forward towards p, about n
+        double px = overhead ? ux : rx, py = overhead ? uy : 0, pz = overhead ? uz : rz;
+        double nx = overhead ? rx : ux, ny = overhead ? 0 : uy, nz = overhead ? rz : uz;
+        double maxRadius = 0;
+        int n = 0;
+        for (int step = 0; step < steps; step++) {
+            float angle = Mth.lerp(step / (float) (steps - 1), arcStart, arcEnd);
+            double cos = Mth.cos(angle), sin = Mth.sin(angle);
+            double dx = fx * cos + px * sin, dy = fy * cos + py * sin, dz = fz * cos + pz * sin;
+            double ex = fx * sin - px * cos, ey = fy * sin - py * cos, ez = fz * sin - pz * cos;
+            for (int c = 0; c < capsules.length; c += HitCapsules.STRIDE) {
+                for (int end = 0; end < 2; end++) {
+                    float x = capsules[c + end * 3], y = capsules[c + end * 3 + 1] + ARM_LENGTH, z = capsules[c + end * 3 + 2];
+                    segments[n++] = ox + dx * y + ex * z + nx * x;
+                    segments[n++] = oy + dy * y + ey * z + ny * x;
+                    segments[n++] = oz + dz * y + ez * z + nz * x;
+                }
+                segments[n++] = capsules[c + 6];
+                maxRadius = Math.max(maxRadius, capsules[c + 6]);
+            }
+        }
+
+        double extent = reach + maxRadius;
+        CANDIDATES.clear();
+        attacker.level().getEntities(LIVING, new AABB(ox - extent, oy - extent, oz - extent, ox + extent, oy + extent, oz + extent), CANDIDATE, CANDIDATES);
+        int added = 0;
+        for (int i = 0; i < CANDIDATES.size(); i++) {
+            LivingEntity candidate = CANDIDATES.get(i);
+            if (candidate != attacker && touches(candidate.getBoundingBox(), n)) {
+                hits.add(candidate);
+                added++;
+            }
+        }
+        CANDIDATES.clear();
+        return added;
+    }
+
+    private static boolean touches(AABB box, int length) {
+        for (int i = 0; i < length; i += HitCapsules.STRIDE) {
+            double radius = segments[i + 6];
+            if (segmentDistanceSqr(box, i) <= radius * radius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Squared distance from the segment at {@code offset} to the box. Distance to a box is convex along a segment,
+     * so a golden section search finds the closest point.
+     */
+    private static double segmentDistanceSqr(AABB box, int offset) {
+        double low = 0, high = 1;
+        double a = high - GOLDEN * (high - low), b = low + GOLDEN * (high - low);
+        double da = pointDistanceSqr(box, offset, a), db = pointDistanceSqr(box, offset, b);
+        for (int i = 0; i < SEARCH_ITERATIONS && Math.min(da, db) > 0; i++) {
+            if (da < db) {
+                high = b;
+                b = a;
+                db = da;
+                a = high - GOLDEN * (high - low);
+                da = pointDistanceSqr(box, offset, a);
+            } else {
+                low = a;
+                a = b;
+                da = db;
+                b = low + GOLDEN * (high - low);
+                db = pointDistanceSqr(box, offset, b);
+            }
+        }
+        return Math.min(Math.min(da, db), Math.min(pointDistanceSqr(box, offset, 0), pointDistanceSqr(box, offset, 1)));
+    }
+
+    private static double pointDistanceSqr(AABB box, int offset, double t) {
+        double x = Mth.lerp(t, segments[offset], segments[offset + 3]);
+        double y = Mth.lerp(t, segments[offset + 1], segments[offset + 4]);
+        double z = Mth.lerp(t, segments[offset + 2], segments[offset + 5]);
+        double dx = Math.max(0, Math.max(box.minX - x, x - box.maxX));
+        double dy = Math.max(0, Math.max(box.minY - y, y - box.maxY));
+        double dz = Math.max(0, Math.max(box.minZ - z, z - box.maxZ));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    @SubscribeEvent
+    public static void onAttackEntity(AttackEntityEvent event) {
+        Player player = event.getEntity();
+        if (player.level().isClientSide || !(player.getMainHandItem().getItem() instanceof AnimatedItem item)
+                || !(item.getVariant().item() instanceof WeaponType weapon) || player.getAttackStrengthScale(0.5f) < FULL_STRENGTH) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        HITS.clear();
+        sweep(player, weapon, HITS);
+        if (!HITS.isEmpty()) {
+            DamageSource source = player.damageSources().playerAttack(player);
+            float damage = (float) player.getAttributeValue(Attributes.ATTACK_DAMAGE) * SWEEP_DAMAGE;
+            float yaw = player.getYRot() * Mth.DEG_TO_RAD;
+            for (int i = 0; i < HITS.size(); i++) {
+                LivingEntity hit = HITS.get(i);
+                if (hit != event.getTarget() && !player.isAlliedTo(hit)) {
+                    hit.knockback(0.4, Mth.sin(yaw), -Mth.cos(yaw));
+                    hit.hurt(source, damage);
+                }
+            }
+            HITS.clear();
+        }
+        ModProfiler.end(ModProfiler.Subsystem.MELEE_SWEEP, start);
+    }
+}
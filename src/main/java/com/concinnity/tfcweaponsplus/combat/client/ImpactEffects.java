@@ -0,0 +1,126 @@
+package com.concinnity.tfcweaponsplus.combat.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.network.ImpactPayload;
+import net.dries007.tfc.common.component.size.Weight;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.BlockParticleOption;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.client.event.ViewportEvent;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Plays the {@link ImpactPayload}s the server sends: sparks for slashing weapons, debris from the ground and dust
+ * for crushing ones, a sound, and camera shake for a player near enough to feel it. All of it scales with the hit's
+ * intensity and the weapon's weight.
+ * <p>
+ * Particles come from a budget of {@link #PARTICLES_PER_TICK} shared by all impacts in a client tick, so a large
+ * fight thins out the effects instead of flooding the particle engine. Camera shake follows the damage tilt
+ * accessibility option, and is off when that is.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, value = Dist.CLIENT)
+public final class ImpactEffects {
+    private static final int PARTICLES_PER_TICK = 96;
+    private static final int MAX_PARTICLES = 24;
+    private static final float MAX_SHAKE = 2.5f;
+    private static final double SHAKE_RANGE = 12;
+    private static final float SHAKE_DECAY = 0.7f;
+
+    private static int particleBudget = PARTICLES_PER_TICK;
+    private static float shake;
+    private static int ticks;
+
+    private ImpactEffects() {}
+
+    public static void play(ImpactPayload payload) {
+        Minecraft minecraft = Minecraft.getInstance();
+        ClientLevel level = minecraft.level;
+        if (level == null || payload.variant() < 0 || payload.variant() >= ItemVariants.COUNT
+                || !(ItemVariants.item(payload.variant()) instanceof WeaponType weapon)) {
+            return;
+        }
+        float intensity = (payload.intensity() & 0xFF) / 255f;
+        float weight = weapon.getWeight() == Weight.VERY_HEAVY ? 1 : 0.6f;
+        WeaponType.DamageType[] types = WeaponType.DamageType.values();
+        WeaponType.DamageType type = payload.damageType() >= 0 && payload.damageType() < types.length ? types[payload.damageType()] : weapon.getDamageType();
+
+        int particles = Math.min(particleBudget, Mth.ceil(MAX_PARTICLES * intensity * weight));
+        particleBudget -= particles;
+        RandomSource random = level.random;
+        BlockState ground = type == WeaponType.DamageType.CRUSHING ? ground(level, payload) : null;
+        ParticleOptions debris = ground == null ? ParticleTypes.POOF : new BlockParticleOption(ParticleTypes.BLOCK, ground);
+        for (int i = 0; i < particles; i++) {
+            ParticleOptions particle = switch (type) {
+                case SLASHING -> i % 3 == 0 ? ParticleTypes.ELECTRIC_SPARK : ParticleTypes.CRIT;
+                case CRUSHING -> i % 2 == 0 ? debris : ParticleTypes.POOF;
+                case PIERCING -> ParticleTypes.CRIT;
+            };
+            double speed = 0.15 + 0.35 * intensity;
+            level.addParticle(particle, payload.x(), payload.y(), payload.z(),
+                    (random.nextDouble() - 0.5) * speed, random.nextDouble() * speed, (random.nextDouble() - 0.5) * speed);
+        }
+
+        SoundEvent sound = switch (type) {
+            case SLASHING -> SoundEvents.PLAYER_ATTACK_STRONG;
+            case CRUSHING -> weight == 1 ? SoundEvents.MACE_SMASH_GROUND_HEAVY : SoundEvents.MACE_SMASH_GROUND;
+            case PIERCING -> SoundEvents.PLAYER_ATTACK_CRIT;
+        };
+        level.playLocalSound(payload.x(), payload.y(), payload.z(), sound, SoundSource.PLAYERS,
+                0.5f + 0.5f * intensity, 1.15f - 0.35f * weight + (random.nextFloat() - 0.5f) * 0.1f, false);
+
+        Entity camera = minecraft.getCameraEntity();
+        if (camera != null) {
+            double distance = Math.sqrt(camera.distanceToSqr(payload.x(), payload.y(), payload.z()));
+            if (distance < SHAKE_RANGE) {
+                shake = Math.max(shake, MAX_SHAKE * weight * intensity * (float) (1 - distance / SHAKE_RANGE));
+            }
+        }
+    }
+
+    @Nullable
+    private static BlockState ground(ClientLevel level, ImpactPayload payload) {
+        BlockPos.MutableBlockPos pos = BlockPos.containing(payload.x(), payload.y(), payload.z()).mutable();
+        for (int i = 0; i < 4; i++) {
+            BlockState state = level.getBlockState(pos.move(0, -1, 0));
+            if (!state.isAir()) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    @SubscribeEvent
+    public static void onClientTickPost(ClientTickEvent.Post event) {
+        particleBudget = PARTICLES_PER_TICK;
+        ticks++;
+        shake = shake < 0.05f ? 0 : shake * SHAKE_DECAY;
+    }
+
+    @SubscribeEvent
+    public static void onComputeCameraAngles(ViewportEvent.ComputeCameraAngles event) {
+        if (shake == 0) {
+            return;
+        }
+        float time = ticks + (float) event.getPartialTick();
+        float amount = shake * Minecraft.getInstance().options.damageTiltStrength().get().floatValue();
+        event.setPitch(event.getPitch() + amount * Mth.sin(time * 2.3f));
+        event.setYaw(event.getYaw() + amount * 0.5f * Mth.cos(time * 1.9f));
+        event.setRoll(event.getRoll() + amount * 0.5f * Mth.sin(time * 3.1f));
+    }
+}
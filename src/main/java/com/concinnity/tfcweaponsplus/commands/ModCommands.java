@@ -0,0 +1,190 @@
+package com.concinnity.tfcweaponsplus.commands;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.block.custom.WeaponRackBlock;
+import com.concinnity.tfcweaponsplus.block.entity.WeaponRackBlockEntity;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.IItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import com.concinnity.tfcweaponsplus.profiling.ProfileReport;
+import com.concinnity.tfcweaponsplus.registration.BlockRegistry;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.monster.Zombie;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
+import net.neoforged.neoforge.registries.DeferredHolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class ModCommands {
+    private static final int ARMORY_WIDTH = 25;
+    private static final int ARMORY_HEIGHT = 10;
+    private static final int ARMORY_DISTANCE = 4;
+    private static final int SWINGERS = 20;
+    private static final double SWINGER_RADIUS = 5;
+
+    private ModCommands() {}
+
+    @SubscribeEvent
+    public static void onRegisterCommands(RegisterCommandsEvent event) {
+        register(event.getDispatcher());
+    }
+
+    private static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(TFCWeaponsPlus.MOD_ID)
+                .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+                .then(Commands.literal("benchmark")
+                        .then(Commands.literal("armory").executes(ModCommands::buildArmory))
+                        .then(Commands.literal("swings").executes(ModCommands::spawnSwingers)))
+                .then(Commands.literal("profile")
+                        .then(Commands.literal("start").executes(ModCommands::startProfile))
+                        .then(Commands.literal("stop").executes(ModCommands::stopProfile))
+                        .then(Commands.literal("dump").executes(ModCommands::dumpProfile))));
+    }
+
+    /**
+     * Places {@code SWINGERS} humanoids in a ring around the source, each holding a weapon (heaviest first) and
+     * swinging it without pause, as a repeatable scene for measuring third person swing animations. They stand in for
+     * players, which can't be spawned, and render their held items the same way.
+     */
+    private static int spawnSwingers(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        ServerLevel level = source.getLevel();
+        List<Item> weapons = ItemRegistry.getRegister().getEntries().stream()
+                .map(DeferredHolder::get)
+                .filter(item -> item instanceof AnimatedItem animated && animated.getVariant().item() instanceof WeaponType)
+                .sorted(Comparator.comparing(item -> ((WeaponType) ((AnimatedItem) item).getVariant().item()).getWeight()).reversed())
+                .toList();
+        if (weapons.isEmpty()) {
+            source.sendFailure(Component.literal("No weapons are registered"));
+            return 0;
+        }
+
+        Vec3 center = source.getPosition();
+        int spawned = 0;
+        for (int i = 0; i < SWINGERS; i++) {
+            double angle = Math.TAU * i / SWINGERS;
+            Zombie zombie = EntityType.ZOMBIE.create(level);
+            if (zombie == null) {
+                continue;
+            }
+            double x = center.x + Math.cos(angle) * SWINGER_RADIUS;
+            double z = center.z + Math.sin(angle) * SWINGER_RADIUS;
+            zombie.moveTo(x, center.y, z, (float) Math.toDegrees(angle) + 90, 0);
+            zombie.setYHeadRot(zombie.getYRot());
+            zombie.setNoAi(true);
+            zombie.setSilent(true);
+            zombie.setInvulnerable(true);
+            zombie.setPersistenceRequired();
+            zombie.setItemSlot(EquipmentSlot.MAINHAND, new ItemStack(weapons.get(i % weapons.size())));
+            level.addFreshEntity(zombie);
+            SwingBenchmark.add(zombie);
+            spawned++;
+        }
+
+        int placed = spawned;
+        source.sendSuccess(() -> Component.literal("Spawned %d swinging mobs".formatted(placed)), true);
+        return placed;
+    }
+
+    private static int startProfile(CommandContext<CommandSourceStack> context) {
+        ModProfiler.start();
+        context.getSource().sendSuccess(() -> Component.literal("Started profiling"), true);
+        return 1;
+    }
+
+    private static int stopProfile(CommandContext<CommandSourceStack> context) {
+        if (!ModProfiler.isEnabled()) {
+            context.getSource().sendFailure(Component.literal("Profiling is not running"));
+            return 0;
+        }
+        ModProfiler.stop();
+        context.getSource().sendSuccess(() -> Component.literal("Stopped profiling after %.1f s"
+                .formatted(ModProfiler.elapsedNanos() / 1e9)), true);
+        return 1;
+    }
+
+    /**
+     * Prints the counters and timings collected since the last {@code profile start}, and writes them to a JSON file
+     * in the world folder. Works while profiling is still running.
+     */
+    private static int dumpProfile(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        if (ModProfiler.elapsedNanos() == 0) {
+            source.sendFailure(Component.literal("Profiling has not been started"));
+            return 0;
+        }
+
+        ProfileReport report = ProfileReport.capture(source.getServer());
+        report.lines().forEach(line -> source.sendSystemMessage(Component.literal(line)));
+        try {
+            Path file = report.write(source.getServer());
+            source.sendSuccess(() -> Component.literal("Wrote " + source.getServer().getWorldPath(LevelResource.ROOT).relativize(file)), false);
+        } catch (IOException e) {
+            TFCWeaponsPlus.LOGGER.error("Failed to write profile", e);
+            source.sendFailure(Component.literal("Failed to write profile: " + e.getMessage()));
+            return 0;
+        }
+        return 1;
+    }
+
+    /**
+     * Builds a wall of {@code ARMORY_WIDTH * ARMORY_HEIGHT} full weapon racks in front of the source, cycling through
+     * every registered weapon, as a repeatable scene for measuring rack rendering.
+     */
+    private static int buildArmory(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        ServerLevel level = source.getLevel();
+        BlockPos origin = BlockPos.containing(source.getPosition()).relative(Direction.SOUTH, ARMORY_DISTANCE);
+
+        List<Item> weapons = ItemRegistry.getRegister().getEntries().stream()
+                .map(DeferredHolder::get)
+                .filter(item -> item instanceof AnimatedItem animated
+                        && animated.getVariant().item().getCategory() == IItem.ItemCategory.WEAPON)
+                .toList();
+        if (weapons.isEmpty()) {
+            source.sendFailure(Component.literal("No weapons are registered"));
+            return 0;
+        }
+
+        BlockState rack = BlockRegistry.WEAPON_RACK.get().defaultBlockState().setValue(WeaponRackBlock.FACING, Direction.NORTH);
+        int placed = 0;
+        for (int y = 0; y < ARMORY_HEIGHT; y++) {
+            for (int x = 0; x < ARMORY_WIDTH; x++) {
+                BlockPos pos = origin.offset(x - ARMORY_WIDTH / 2, y, 0);
+                level.setBlockAndUpdate(pos, rack);
+                if (level.getBlockEntity(pos) instanceof WeaponRackBlockEntity entity) {
+                    for (int slot = 0; slot < WeaponRackBlockEntity.SLOTS; slot++) {
+                        entity.setItem(slot, new ItemStack(weapons.get(placed++ % weapons.size())));
+                    }
+                }
+            }
+        }
+
+        int displayed = placed;
+        source.sendSuccess(() -> Component.literal("Built an armory of %d racks with %d weapons"
+                .formatted(ARMORY_WIDTH * ARMORY_HEIGHT, displayed)), true);
+        return displayed;
+    }
+}
@@ -0,0 +1,42 @@
+package com.concinnity.tfcweaponsplus.commands;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.Mob;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the mobs placed by {@code /tfcweaponsplus benchmark swings} swinging their weapons back to back, so clients
+ * in view always have a full set of swing animations to draw. Mobs drop out once they are removed.
+ * <p>
+ * Run it in singleplayer between {@code profile start} and {@code profile dump}: the report then has the client's
+ * frame times under {@code frames} and the cost of posing the swinging weapons under {@code swing_poses}.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class SwingBenchmark {
+    private static final List<Mob> SWINGERS = new ArrayList<>();
+
+    private SwingBenchmark() {}
+
+    static void add(Mob mob) {
+        SWINGERS.add(mob);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        if (SWINGERS.isEmpty()) {
+            return;
+        }
+        SWINGERS.removeIf(Mob::isRemoved);
+        for (Mob mob : SWINGERS) {
+            if (!mob.swinging) {
+                mob.swing(InteractionHand.MAIN_HAND);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.concinnity.tfcweaponsplus.compat.jei;
+
+import com.concinnity.tfcweaponsplus.recipe.WeaponRecipeIndex;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import mezz.jei.api.IModPlugin;
+import mezz.jei.api.JeiPlugin;
+import mezz.jei.api.registration.IAdvancedRegistration;
+import mezz.jei.api.registration.IRecipeCategoryRegistration;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shows the precomputed cost of every weapon. The category is not given recipes to index: {@link WeaponCostLookup}
+ * answers its lookups from {@link WeaponRecipeIndex}, so neither the recipe manager nor the costs are scanned for
+ * them. EMI's support for JEI plugins does not run recipe manager plugins, so the category stays empty there.
+ */
+@JeiPlugin
+public class TFCWeaponsPlusJeiPlugin implements IModPlugin {
+    private static final ResourceLocation UID = ResourceUtils.of("jei_plugin");
+
+    @Override
+    public @NotNull ResourceLocation getPluginUid() {
+        return UID;
+    }
+
+    @Override
+    public void registerCategories(IRecipeCategoryRegistration registration) {
+        registration.addRecipeCategories(new WeaponCostCategory(registration.getJeiHelpers().getGuiHelper()));
+    }
+
+    @Override
+    public void registerAdvanced(@NotNull IAdvancedRegistration registration) {
+        registration.addRecipeManagerPlugin(new WeaponCostLookup());
+    }
+}
@@ -0,0 +1,84 @@
+package com.concinnity.tfcweaponsplus.compat.jei;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.recipe.WeaponRecipeIndex;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import mezz.jei.api.gui.builder.IRecipeLayoutBuilder;
+import mezz.jei.api.gui.drawable.IDrawable;
+import mezz.jei.api.gui.ingredient.IRecipeSlotsView;
+import mezz.jei.api.helpers.IGuiHelper;
+import mezz.jei.api.recipe.IFocusGroup;
+import mezz.jei.api.recipe.RecipeIngredientRole;
+import mezz.jei.api.recipe.RecipeType;
+import mezz.jei.api.recipe.category.IRecipeCategory;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+public class WeaponCostCategory implements IRecipeCategory<WeaponRecipeIndex.WeaponCost> {
+    public static final RecipeType<WeaponRecipeIndex.WeaponCost> TYPE = RecipeType.create(TFCWeaponsPlus.MOD_ID, "weapon_cost", WeaponRecipeIndex.WeaponCost.class);
+
+    private static final int WIDTH = 162;
+    private static final int HEIGHT = 54;
+    private static final int SLOT_SIZE = 18;
+    private static final int TEXT_COLOR = 0xFF404040;
+
+    private final IDrawable icon;
+    private final IDrawable slot;
+
+    public WeaponCostCategory(IGuiHelper guiHelper) {
+        this.icon = guiHelper.createDrawableItemStack(new ItemStack(BuiltInRegistries.ITEM.get(ResourceUtils.of("weapon/greatsword/steel"))));
+        this.slot = guiHelper.getSlotDrawable();
+    }
+
+    @Override
+    public @NotNull RecipeType<WeaponRecipeIndex.WeaponCost> getRecipeType() {
+        return TYPE;
+    }
+
+    @Override
+    public @NotNull Component getTitle() {
+        return Component.translatable("jei.tfcweaponsplus.weapon_cost");
+    }
+
+    @Override
+    public IDrawable getIcon() {
+        return icon;
+    }
+
+    @Override
+    public int getWidth() {
+        return WIDTH;
+    }
+
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
+
+    @Override
+    public void setRecipe(@NotNull IRecipeLayoutBuilder builder, WeaponRecipeIndex.WeaponCost cost, @NotNull IFocusGroup focuses) {
+        List<Item> components = cost.components();
+        int perRow = WIDTH / SLOT_SIZE - 1;
+        for (int i = 0; i < components.size(); i++) {
+            builder.addSlot(RecipeIngredientRole.INPUT, 1 + (i % perRow) * SLOT_SIZE, 1 + (i / perRow) * SLOT_SIZE)
+                    .setBackground(slot, -1, -1)
+                    .addItemStack(new ItemStack(components.get(i)));
+        }
+        builder.addSlot(RecipeIngredientRole.OUTPUT, WIDTH - SLOT_SIZE + 1, 1)
+                .setBackground(slot, -1, -1)
+                .addItemStack(new ItemStack(cost.weapon()));
+    }
+
+    @Override
+    public void draw(WeaponRecipeIndex.WeaponCost cost, @NotNull IRecipeSlotsView slots, GuiGraphics guiGraphics, double mouseX, double mouseY) {
+        Component summary = Component.translatable("jei.tfcweaponsplus.weapon_cost.summary", cost.metalAmount(), cost.anvilTier(), cost.steps());
+        guiGraphics.drawString(Minecraft.getInstance().font, summary, 0, HEIGHT - 9, TEXT_COLOR, false);
+    }
+}
@@ -0,0 +1,69 @@
+package com.concinnity.tfcweaponsplus.compat.jei;
+
+import com.concinnity.tfcweaponsplus.recipe.WeaponRecipeIndex;
+import mezz.jei.api.constants.VanillaTypes;
+import mezz.jei.api.recipe.IFocus;
+import mezz.jei.api.recipe.RecipeIngredientRole;
+import mezz.jei.api.recipe.RecipeType;
+import mezz.jei.api.recipe.advanced.IRecipeManagerPlugin;
+import mezz.jei.api.recipe.category.IRecipeCategory;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Answers JEI's lookups in the weapon cost category from {@link WeaponRecipeIndex}: the cost of a weapon, or the
+ * weapons a component goes into, is a map lookup instead of JEI indexing every cost again when recipes change. The
+ * index is always the current one, as it is rebuilt when the client receives recipes.
+ */
+final class WeaponCostLookup implements IRecipeManagerPlugin {
+
+    @Override
+    public <V> @NotNull List<RecipeType<?>> getRecipeTypes(@NotNull IFocus<V> focus) {
+        return lookup(focus).isEmpty() ? List.of() : List.of(WeaponCostCategory.TYPE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T, V> @NotNull List<T> getRecipes(IRecipeCategory<T> recipeCategory, @NotNull IFocus<V> focus) {
+        return recipeCategory.getRecipeType().equals(WeaponCostCategory.TYPE) ? (List<T>) lookup(focus) : List.of();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @NotNull List<T> getRecipes(IRecipeCategory<T> recipeCategory) {
+        WeaponRecipeIndex index = index();
+        if (index == null || !recipeCategory.getRecipeType().equals(WeaponCostCategory.TYPE)) {
+            return List.of();
+        }
+        return (List<T>) index.getCosts().stream()
+                .sorted(Comparator.comparing(cost -> BuiltInRegistries.ITEM.getKey(cost.weapon())))
+                .toList();
+    }
+
+    private static List<WeaponRecipeIndex.WeaponCost> lookup(IFocus<?> focus) {
+        WeaponRecipeIndex index = index();
+        Item item = focus.getTypedValue().getIngredient(VanillaTypes.ITEM_STACK).map(ItemStack::getItem).orElse(null);
+        if (index == null || item == null) {
+            return List.of();
+        }
+        if (focus.getRole() == RecipeIngredientRole.OUTPUT) {
+            WeaponRecipeIndex.WeaponCost cost = index.getCost(item);
+            return cost == null ? List.of() : List.of(cost);
+        }
+        return focus.getRole() == RecipeIngredientRole.INPUT ? index.getCostsUsing(item) : List.of();
+    }
+
+    @Nullable
+    private static WeaponRecipeIndex index() {
+        ClientLevel level = Minecraft.getInstance().level;
+        return level == null ? null : WeaponRecipeIndex.get(level);
+    }
+}
@@ -0,0 +1,29 @@
+package com.concinnity.tfcweaponsplus.config;
+
+import net.neoforged.neoforge.common.ModConfigSpec;
+
+/**
+ * Settings for this client only, kept in the game's {@code config} folder.
+ */
+public final class ClientConfig {
+    public static final ModConfigSpec SPEC;
+
+    private static final ModConfigSpec.IntValue SHEATHED_WEAPON_DISTANCE;
+
+    static {
+        ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
+
+        builder.comment("Weapons drawn on players' bodies.").push("sheathedWeapons");
+        SHEATHED_WEAPON_DISTANCE = builder.comment("Distance in blocks beyond which players are drawn without their sheathed weapon. 0 draws none.")
+                .defineInRange("distance", 32, 0, 256);
+        builder.pop();
+
+        SPEC = builder.build();
+    }
+
+    private ClientConfig() {}
+
+    public static int sheathedWeaponDistance() {
+        return SHEATHED_WEAPON_DISTANCE.get();
+    }
+}
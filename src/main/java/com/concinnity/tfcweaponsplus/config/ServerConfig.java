@@ -0,0 +1,36 @@
+package com.concinnity.tfcweaponsplus.config;
+
+import net.neoforged.neoforge.common.ModConfigSpec;
+
+/**
+ * Per world settings, kept in the world's {@code serverconfig} folder and only read on the server.
+ */
+public final class ServerConfig {
+    public static final ModConfigSpec SPEC;
+
+    private static final ModConfigSpec.IntValue BLOCKS_PER_TICK;
+    private static final ModConfigSpec.IntValue MAX_FELLED_LOGS;
+
+    static {
+        ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
+
+        builder.comment("Blocks broken by weapons over several ticks, such as trees felled with a greataxe.").push("blockBreaking");
+        BLOCKS_PER_TICK = builder.comment("Blocks broken per tick in each dimension, shared between everything being felled there.")
+                .defineInRange("blocksPerTick", 16, 1, 1024);
+        MAX_FELLED_LOGS = builder.comment("Most logs a greataxe fells at once. Larger trees are only partly felled.")
+                .defineInRange("maxFelledLogs", 256, 1, 4096);
+        builder.pop();
+
+        SPEC = builder.build();
+    }
+
+    private ServerConfig() {}
+
+    public static int blocksPerTick() {
+        return BLOCKS_PER_TICK.get();
+    }
+
+    public static int maxFelledLogs() {
+        return MAX_FELLED_LOGS.get();
+    }
+}
@@ -0,0 +1,82 @@
+package com.concinnity.tfcweaponsplus.config;
+
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.models.ComponentType;
+import com.concinnity.tfcweaponsplus.models.IItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import net.dries007.tfc.util.Metal;
+import net.neoforged.neoforge.common.ModConfigSpec;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Which weapon types and metals get registered. Read once, before items are registered; components are enabled
+ * for the metals listed whenever an enabled weapon uses them. Client and server must agree on it, which is
+ * checked when a client joins.
+ */
+public final class StartupConfig {
+    public static final ModConfigSpec SPEC;
+
+    private static final ModConfigSpec.ConfigValue<List<? extends String>> WEAPON_TYPES;
+    private static final ModConfigSpec.ConfigValue<List<? extends String>> METALS;
+
+    private static BitSet enabled;
+
+    static {
+        ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
+
+        builder.comment("Variants registered at startup. Removing entries frees registry slots, recipes and assets for combinations a pack does not use.",
+                "Clients must use the same lists as the server they join.").push("variants");
+        WEAPON_TYPES = builder.comment("Weapon types to register. Their components are registered with them.")
+                .defineListAllowEmpty("weaponTypes", Arrays.stream(WeaponType.values()).map(WeaponType::getSerializedName).toList(),
+                        () -> "", value -> value instanceof String name && Arrays.stream(WeaponType.values()).anyMatch(type -> type.getSerializedName().equals(name)));
+        METALS = builder.comment("Metals to register weapons and components for. Must be TFC metals with a tool tier.")
+                .defineListAllowEmpty("metals", ItemVariants.metals().stream().map(Metal::getSerializedName).toList(),
+                        () -> "", value -> value instanceof String name && ItemVariants.metals().stream().anyMatch(metal -> metal.getSerializedName().equals(name)));
+        builder.pop();
+
+        SPEC = builder.build();
+    }
+
+    private StartupConfig() {}
+
+    public static boolean isEnabled(int ordinal) {
+        return getEnabled().get(ordinal);
+    }
+
+    /**
+     * Enabled variants as a set of {@link ItemVariants} ordinals. Do not modify the result.
+     */
+    public static BitSet getEnabled() {
+        if (enabled == null) {
+            enabled = computeEnabled();
+        }
+        return enabled;
+    }
+
+    private static BitSet computeEnabled() {
+        Set<WeaponType> weapons = EnumSet.noneOf(WeaponType.class);
+        Set<ComponentType> components = EnumSet.noneOf(ComponentType.class);
+        for (WeaponType type : WeaponType.values()) {
+            if (WEAPON_TYPES.get().contains(type.getSerializedName())) {
+                weapons.add(type);
+                components.addAll(type.getComponents());
+            }
+        }
+
+        BitSet result = new BitSet(ItemVariants.COUNT);
+        for (int ordinal = 0; ordinal < ItemVariants.COUNT; ordinal++) {
+            IItem item = ItemVariants.item(ordinal);
+            Metal metal = ItemVariants.metal(ordinal);
+            boolean typeEnabled = item instanceof WeaponType weapon ? weapons.contains(weapon) : components.contains((ComponentType) item);
+            if (typeEnabled && (metal == null || METALS.get().contains(metal.getSerializedName()))) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+}
@@ -20,6 +20,7 @@ public final class DataGenerators {
         final var itemHeatProvider =  generator.addProvider(event.includeServer(), new ModItemHeatProvider(output, lookupProvider));
         generator.addProvider(event.includeServer(), new ModRecipeProvider(output, lookupProvider, itemHeatProvider));
         generator.addProvider(event.includeClient(), new ModLanguageProvider(output));
+        generator.addProvider(event.includeClient(), new ModItemIconProvider(output, existingFileHelper));
         generator.addProvider(event.includeClient(), new ModItemModelProvider(output, existingFileHelper));
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.concinnity.tfcweaponsplus.datagen;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.data.DataProvider;
+import net.minecraft.util.GsonHelper;
+import net.neoforged.neoforge.common.conditions.ConditionalOps;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Adds a {@code neoforge:item_exists} condition on the ingredient item to each JSON file written through it, for
+ * the datagen-utils TFC providers, which have no way to add conditions themselves. A pack generated from the full
+ * variant matrix then still loads when the startup config leaves some variants out.
+ */
+final class ItemExistsOutput implements CachedOutput {
+    private final CachedOutput output;
+
+    ItemExistsOutput(CachedOutput output) {
+        this.output = output;
+    }
+
+    @Override
+    @SuppressWarnings("UnstableApiUsage")
+    public void writeIfNeeded(Path path, byte[] data, HashCode hash) throws IOException {
+        JsonObject json = JsonParser.parseString(new String(data, StandardCharsets.UTF_8)).getAsJsonObject();
+        JsonObject ingredient = GsonHelper.getAsJsonObject(json, "ingredient", null);
+        if (ingredient == null || !ingredient.has("item")) {
+            output.writeIfNeeded(path, data, hash);
+            return;
+        }
+
+        JsonObject condition = new JsonObject();
+        condition.addProperty("type", "neoforge:item_exists");
+        condition.add("item", ingredient.get("item"));
+        JsonArray conditions = new JsonArray();
+        conditions.add(condition);
+        json.add(ConditionalOps.DEFAULT_CONDITIONS_KEY, conditions);
+
+        // as DataProvider.saveStable writes it
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        HashingOutputStream hashing = new HashingOutputStream(Hashing.sha1(), bytes);
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(hashing, StandardCharsets.UTF_8))) {
+            writer.setSerializeNulls(false);
+            writer.setIndent("  ");
+            GsonHelper.writeValue(writer, json, DataProvider.KEY_COMPARATOR);
+        }
+        output.writeIfNeeded(path, bytes.toByteArray(), hashing.hash());
+    }
+}
@@ -4,6 +4,7 @@ import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
 import com.concinnity.tfcweaponsplus.models.ComponentType;
 import com.concinnity.tfcweaponsplus.models.WeaponType;
 import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.concinnity.tfcweaponsplus.utils.ModTags;
 import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
 import mod.traister101.datagenutils.data.AdvancementSubProvider;
 import mod.traister101.datagenutils.data.EnhancedAdvancementProvider;
@@ -19,7 +20,6 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.data.PackOutput;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
-import net.minecraft.world.level.ItemLike;
 import net.neoforged.neoforge.common.data.ExistingFileHelper;
 import net.neoforged.neoforge.registries.DeferredHolder;
 
@@ -53,11 +53,8 @@ public class ModAdvancements implements AdvancementSubProvider {
                         .type(AdvancementType.TASK))
                 .requirementsStrategy(AdvancementRequirements.Strategy.OR);
 
-        itemMap.values().forEach(holder -> {
-            ItemLike item = (ItemLike) holder.get();
-            builder.addCriterion("has_" + holder.getId().getPath(),
-                    InventoryChangeTrigger.TriggerInstance.hasItems(ItemPredicate.Builder.item().of(item).build()));
-        });
+        // A tag rather than one criterion per item, so the advancement still loads with variants disabled
+        builder.addCriterion("has_item", InventoryChangeTrigger.TriggerInstance.hasItems(ItemPredicate.Builder.item().of(ModTags.ITEMS).build()));
 
         builder.save(output, location("root"));
     }
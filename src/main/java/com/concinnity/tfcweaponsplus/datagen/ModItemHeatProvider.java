@@ -8,10 +8,12 @@ import mod.traister101.datagenutils.data.util.tfc.TFCFluidHeat;
 import net.dries007.tfc.util.Metal;
 import net.dries007.tfc.util.data.FluidHeat;
 import net.minecraft.core.HolderLookup;
+import net.minecraft.data.CachedOutput;
 import net.minecraft.data.PackOutput;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.neoforged.neoforge.registries.DeferredHolder;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +26,14 @@ public class ModItemHeatProvider extends ItemHeatProvider {
         super(output, TFCWeaponsPlus.MOD_ID, lookup);
     }
 
+    /**
+     * Writes every definition with an item exists condition, see {@link ItemExistsOutput}.
+     */
+    @Override
+    public @NotNull CompletableFuture<?> run(@NotNull CachedOutput output) {
+        return super.run(new ItemExistsOutput(output));
+    }
+
     @Override
     protected void addData(HolderLookup.Provider provider) {
         Map<String, DeferredHolder<Item, ? extends Item>> itemMap = ItemRegistry.getRegister().getEntries().stream()
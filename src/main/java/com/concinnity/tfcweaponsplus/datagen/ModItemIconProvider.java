@@ -0,0 +1,146 @@
+package com.concinnity.tfcweaponsplus.datagen;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.client.IconRasterizer;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.ComponentType;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.mojang.blaze3d.platform.NativeImage;
+import net.minecraft.Util;
+import net.minecraft.client.renderer.block.model.ItemTransform;
+import net.minecraft.data.CachedOutput;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.PackOutput;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.PackType;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.Mth;
+import net.neoforged.neoforge.common.data.ExistingFileHelper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector3f;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.loading.json.raw.Model;
+import software.bernie.geckolib.loading.object.BakedModelFactory;
+import software.bernie.geckolib.loading.object.GeometryTree;
+import software.bernie.geckolib.util.JsonUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pre-renders a flat inventory icon for every variant with a geo model, using {@link IconRasterizer}. The icons go
+ * to {@code textures/item/icon/<registry path>.png}, and {@link ModItemModelProvider} points the GUI and ground
+ * transforms at them, so only hand-held items still go through the geo renderer.
+ */
+public class ModItemIconProvider implements DataProvider {
+    private static final int ICON_SIZE = 16;
+
+    private final PackOutput.PathProvider textures;
+    private final ExistingFileHelper existingFileHelper;
+
+    public ModItemIconProvider(PackOutput output, ExistingFileHelper existingFileHelper) {
+        this.textures = output.createPathProvider(PackOutput.Target.RESOURCE_PACK, "textures");
+        this.existingFileHelper = existingFileHelper;
+    }
+
+    /**
+     * @return the icon sprite generated for this variant, or null if it has no model, texture or item to draw
+     */
+    @Nullable
+    public static ResourceLocation iconFor(ExistingFileHelper existingFileHelper, ResourceUtils.ItemVariant variant) {
+        if (variant.item() == ComponentType.GRIP || ItemRegistry.get(variant.ordinal()) == null) {
+            return null;
+        }
+        ResourceLocation registryName = ResourceUtils.of(variant.getRegistryPath());
+        boolean drawable = exists(existingFileHelper, ResourceUtils.getModelFromRegistryName(registryName))
+                && exists(existingFileHelper, ResourceUtils.getTextureFromRegistryName(registryName))
+                && exists(existingFileHelper, parentModel(variant));
+        return drawable ? ResourceUtils.of("item/icon/" + variant.getRegistryPath()) : null;
+    }
+
+    private static ResourceLocation parentModel(ResourceUtils.ItemVariant variant) {
+        return ResourceUtils.of("models/item/%s/%s.json".formatted(
+                variant.item().getCategory().getSerializedName(),
+                variant.item().getSerializedName()
+        ));
+    }
+
+    private static boolean exists(ExistingFileHelper existingFileHelper, ResourceLocation location) {
+        return existingFileHelper.exists(location, PackType.CLIENT_RESOURCES);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<?> run(@NotNull CachedOutput output) {
+        return CompletableFuture.allOf(ResourceUtils.generateItemVariants()
+                .map(variant -> {
+                    ResourceLocation icon = iconFor(existingFileHelper, variant);
+                    return icon == null ? CompletableFuture.completedFuture(null)
+                            : CompletableFuture.runAsync(() -> draw(output, variant, icon), Util.backgroundExecutor());
+                })
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private void draw(CachedOutput output, ResourceUtils.ItemVariant variant, ResourceLocation icon) {
+        AnimatedItem item = ItemRegistry.get(variant.ordinal());
+        ResourceLocation registryName = ResourceUtils.of(variant.getRegistryPath());
+        ResourceLocation modelLocation = ResourceUtils.getModelFromRegistryName(registryName);
+
+        try (NativeImage texture = readTexture(ResourceUtils.getTextureFromRegistryName(registryName));
+             NativeImage image = IconRasterizer.rasterize(bakeModel(modelLocation), item, texture, readGuiTransform(parentModel(variant)), ICON_SIZE)) {
+            byte[] png = image.asByteArray();
+            output.writeIfNeeded(textures.file(icon, "png"), png, Hashing.sha1().hashBytes(png));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to draw icon for " + registryName, e);
+        }
+    }
+
+    private BakedGeoModel bakeModel(ResourceLocation location) throws IOException {
+        try (Reader reader = existingFileHelper.getResource(location, PackType.CLIENT_RESOURCES).openAsReader()) {
+            Model model = JsonUtil.GEO_GSON.fromJson(reader, Model.class);
+            return BakedModelFactory.getForNamespace(location.getNamespace()).bakeModel(GeometryTree.fromModel(model));
+        }
+    }
+
+    private NativeImage readTexture(ResourceLocation location) throws IOException {
+        try (InputStream stream = existingFileHelper.getResource(location, PackType.CLIENT_RESOURCES).open()) {
+            return NativeImage.read(stream);
+        }
+    }
+
+    /**
+     * Reads the {@code gui} display transform of the model the variant's item model inherits, with the same scaling
+     * and limits as vanilla's {@link ItemTransform.Deserializer}.
+     */
+    private ItemTransform readGuiTransform(ResourceLocation location) throws IOException {
+        try (Reader reader = existingFileHelper.getResource(location, PackType.CLIENT_RESOURCES).openAsReader()) {
+            JsonObject display = GsonHelper.getAsJsonObject(GsonHelper.parse(reader), "display", new JsonObject());
+            JsonObject gui = GsonHelper.getAsJsonObject(display, "gui", new JsonObject());
+            Vector3f rotation = vector(gui, "rotation", 0);
+            Vector3f translation = vector(gui, "translation", 0).mul(0.0625f);
+            translation.set(Mth.clamp(translation.x, -5.0f, 5.0f), Mth.clamp(translation.y, -5.0f, 5.0f), Mth.clamp(translation.z, -5.0f, 5.0f));
+            Vector3f scale = vector(gui, "scale", 1);
+            scale.set(Mth.clamp(scale.x, -4.0f, 4.0f), Mth.clamp(scale.y, -4.0f, 4.0f), Mth.clamp(scale.z, -4.0f, 4.0f));
+            return new ItemTransform(rotation, translation, scale);
+        }
+    }
+
+    private static Vector3f vector(JsonObject json, String key, float fallback) {
+        if (!json.has(key)) {
+            return new Vector3f(fallback);
+        }
+        JsonArray array = GsonHelper.getAsJsonArray(json, key);
+        return new Vector3f(array.get(0).getAsFloat(), array.get(1).getAsFloat(), array.get(2).getAsFloat());
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return "Item icons: " + TFCWeaponsPlus.MOD_ID;
+    }
+}
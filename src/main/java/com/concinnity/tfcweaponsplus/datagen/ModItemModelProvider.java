@@ -5,7 +5,10 @@ import com.concinnity.tfcweaponsplus.models.ComponentType;
 import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
 import net.minecraft.data.PackOutput;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.neoforged.neoforge.client.model.generators.ItemModelBuilder;
 import net.neoforged.neoforge.client.model.generators.ItemModelProvider;
+import net.neoforged.neoforge.client.model.generators.loaders.SeparateTransformsModelBuilder;
 import net.neoforged.neoforge.common.data.ExistingFileHelper;
 
 public class ModItemModelProvider extends ItemModelProvider {
@@ -29,7 +32,24 @@ public class ModItemModelProvider extends ItemModelProvider {
                     variant.item().getSerializedName()
             );
 
-            withExistingParent(registryPath, modLoc(parentPath));
+            ResourceLocation icon = ModItemIconProvider.iconFor(existingFileHelper, variant);
+            if (icon == null) {
+                withExistingParent(registryPath, modLoc(parentPath));
+                return;
+            }
+
+            // the geo renderer stays for hands and frames, inventories and dropped items draw the pre-rendered sprite
+            existingFileHelper.trackGenerated(icon, TEXTURE);
+            getBuilder(registryPath)
+                    .customLoader(SeparateTransformsModelBuilder::begin)
+                    .base(nested().parent(getExistingFile(modLoc(parentPath))))
+                    .perspective(ItemDisplayContext.GUI, sprite(icon))
+                    .perspective(ItemDisplayContext.GROUND, sprite(icon))
+                    .end();
         });
     }
+
+    private ItemModelBuilder sprite(ResourceLocation icon) {
+        return nested().parent(getExistingFile(mcLoc("item/generated"))).texture("layer0", icon);
+    }
 }
@@ -5,6 +5,7 @@ import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
 import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
 import mod.traister101.datagenutils.data.tfc.ItemSizeProvider;
 import net.minecraft.core.HolderLookup.Provider;
+import net.minecraft.data.CachedOutput;
 import net.minecraft.data.PackOutput;
 import net.minecraft.world.item.Item;
 import net.neoforged.neoforge.registries.DeferredHolder;
@@ -21,6 +22,14 @@ public class ModItemSizeProvider extends ItemSizeProvider {
         super(output, TFCWeaponsPlus.MOD_ID, lookup);
     }
 
+    /**
+     * Writes every definition with an item exists condition, see {@link ItemExistsOutput}.
+     */
+    @Override
+    public @NotNull CompletableFuture<?> run(@NotNull CachedOutput output) {
+        return super.run(new ItemExistsOutput(output));
+    }
+
     @Override
     protected void addData(@NotNull Provider provider) {
         Map<String, DeferredHolder<Item, ? extends Item>> itemMap = ItemRegistry.getRegister().getEntries().stream()
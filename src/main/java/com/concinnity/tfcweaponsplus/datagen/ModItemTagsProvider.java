@@ -3,6 +3,7 @@ package com.concinnity.tfcweaponsplus.datagen;
 import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
 import net.neoforged.neoforge.common.data.ExistingFileHelper;
 import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.utils.ModTags;
 import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
 import com.concinnity.tfcweaponsplus.utils.TFCUtils;
 import net.dries007.tfc.util.Metal;
@@ -15,6 +16,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
@@ -29,6 +31,7 @@ public class ModItemTagsProvider extends ItemTagsProvider {
     private static final TagKey<Item> TFC_SLASHING = createTag("tfc", "deals_slashing_damage");
     private static final TagKey<Item> TFC_CRUSHING = createTag("tfc", "deals_crushing_damage");
     private static final TagKey<Item> TFC_PIERCING = createTag("tfc", "deals_piercing_damage");
+    private static final ResourceLocation TFC_WHETSTONE = ResourceLocation.fromNamespaceAndPath("tfc", "whetstone");
 
     public ModItemTagsProvider(PackOutput output, CompletableFuture<Provider> lookupProvider, ExistingFileHelper existingFileHelper) {
         super(output, lookupProvider, CompletableFuture.completedFuture(TagsProvider.TagLookup.empty()), TFCWeaponsPlus.MOD_ID, existingFileHelper);
@@ -44,6 +47,11 @@ public class ModItemTagsProvider extends ItemTagsProvider {
         addWeaponCategoryTags(allWeapons);
         addDamageTypeTags(allWeapons);
         addMetalSpecificTags(allWeapons);
+
+        tag(ModTags.WHETSTONES).add(Items.FLINT).addOptional(TFC_WHETSTONE);
+
+        TagsProvider.TagAppender<Item> itemsTag = tag(ModTags.ITEMS);
+        ResourceUtils.generateItemVariants().map(this::createResourceLocation).forEach(itemsTag::addOptional);
     }
 
     private void addGeneralWeaponTags(List<ResourceUtils.ItemVariant> weapons) {
@@ -1,10 +1,14 @@
 package com.concinnity.tfcweaponsplus.datagen;
 
 import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
 import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
 import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import com.concinnity.tfcweaponsplus.utils.TFCUtils;
 import mod.traister101.datagenutils.data.EnhancedLanguageProvider;
 import mod.traister101.datagenutils.data.util.LanguageTranslation;
+import net.dries007.tfc.util.Metal;
 import net.minecraft.data.PackOutput;
 import org.jetbrains.annotations.NotNull;
 
@@ -20,8 +24,8 @@ public class ModLanguageProvider extends EnhancedLanguageProvider {
     @Override
     protected void addTranslations() {
         ResourceUtils.generateItemVariants().forEach(variant -> {
-            String key = "item.%s.%s".formatted(TFCWeaponsPlus.MOD_ID, variant.getTranslationPath());
-            
+            String key = ItemVariants.translationKey(variant.ordinal());
+
             String itemName = capitalize(variant.item().getSerializedName());
             String displayName = variant.metal()
                     .map(m -> "%s %s".formatted(capitalize(m.getSerializedName()), itemName))
@@ -30,10 +34,39 @@ public class ModLanguageProvider extends EnhancedLanguageProvider {
             add(LanguageTranslation.of(key, displayName));
         });
 
+        add(LanguageTranslation.of("block.tfcweaponsplus.weapon_rack", "Weapon Rack"));
+        add(LanguageTranslation.of("block.tfcweaponsplus.armory", "Armory"));
+        add(LanguageTranslation.of("container.tfcweaponsplus.armory", "Armory"));
+        add(LanguageTranslation.of("entity.tfcweaponsplus.weapon_item", "Item"));
+        add(LanguageTranslation.of("container.tfcweaponsplus.armory.locked", "This armory was filled with a different set of weapons and can't be opened"));
         add(LanguageTranslation.of("itemGroup.tfcweaponsplus", "TFC Weapons Plus"));
         add(LanguageTranslation.of("creativetab.tfcweaponsplus.items", "TFC Weapons Plus"));
         add(LanguageTranslation.of("advancements.tfcweaponsplus.root.title", "TFC Weapons Plus"));
         add(LanguageTranslation.of("advancements.tfcweaponsplus.root.description", "Craft any weapon or component from TFC Weapons Plus"));
+
+        add(LanguageTranslation.of("disconnect.tfcweaponsplus.variant_matrix", "TFC Weapons Plus: the variants in tfcweaponsplus-startup.toml differ from the server's.\nOnly on the server: %s\nOnly on this client: %s"));
+        add(LanguageTranslation.of("jei.tfcweaponsplus.weapon_cost", "Weapon Forging"));
+        add(LanguageTranslation.of("jei.tfcweaponsplus.weapon_cost.summary", "%s mB · Tier %s anvil · %s steps"));
+
+        addTooltipTranslations();
+    }
+
+    private void addTooltipTranslations() {
+        Arrays.stream(Metal.values())
+                .filter(TFCUtils::isValidMetal)
+                .forEach(metal -> add(LanguageTranslation.of("metal.tfcweaponsplus." + metal.getSerializedName(), capitalize(metal.getSerializedName()))));
+        Arrays.stream(WeaponType.DamageType.values())
+                .forEach(type -> add(LanguageTranslation.of("tooltip.tfcweaponsplus.damage_type." + type.name().toLowerCase(), capitalize(type.name().toLowerCase()))));
+        Arrays.stream(WeaponType.WeaponCategory.values())
+                .forEach(category -> add(LanguageTranslation.of("tooltip.tfcweaponsplus.weapon_category." + category.name().toLowerCase(), capitalize(category.name().toLowerCase()))));
+
+        add(LanguageTranslation.of("tooltip.tfcweaponsplus.weapon", "%s · %s"));
+        add(LanguageTranslation.of("tooltip.tfcweaponsplus.metal", "%s (Tier %s)"));
+        add(LanguageTranslation.of("tooltip.tfcweaponsplus.fluid_amount", "Melts into %s mB"));
+        add(LanguageTranslation.of("tooltip.tfcweaponsplus.stat.damage", "Attack Damage: %s"));
+        add(LanguageTranslation.of("tooltip.tfcweaponsplus.stat.speed", "Attack Speed: %s"));
+        add(LanguageTranslation.of("tooltip.tfcweaponsplus.stat.reach", "Reach: %s"));
+        add(LanguageTranslation.of("tooltip.tfcweaponsplus.sharpness", "Sharpness: %s%%"));
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.concinnity.tfcweaponsplus.datagen;
 import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
 import com.concinnity.tfcweaponsplus.models.ComponentType;
 import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.registration.BlockRegistry;
 import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
 import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
 import com.concinnity.tfcweaponsplus.utils.TFCUtils;
@@ -14,6 +15,7 @@ import net.dries007.tfc.common.recipes.AnvilRecipe;
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.util.Metal;
 import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.data.PackOutput;
 import net.minecraft.data.recipes.RecipeOutput;
 import net.minecraft.resources.ResourceLocation;
@@ -23,6 +25,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.level.ItemLike;
+import net.neoforged.neoforge.common.conditions.ItemExistsCondition;
 import net.neoforged.neoforge.registries.DeferredHolder;
 import org.jetbrains.annotations.NotNull;
 
@@ -75,6 +78,31 @@ public class ModRecipeProvider extends EnhancedRecipeProvider {
             generateGreataxe(output, metal, itemLookup);
             generateGreathammer(output, metal, itemLookup);
         });
+
+        generateWeaponRack(output);
+        generateArmory(output);
+    }
+
+    private void generateWeaponRack(RecipeOutput output) {
+        var lumber = TagKey.create(net.minecraft.core.registries.Registries.ITEM, ResourceLocation.parse("tfc:lumber"));
+        var rods = TagKey.create(net.minecraft.core.registries.Registries.ITEM, ResourceLocation.parse("c:rods/wooden"));
+
+        CraftingRecipeBuilder.shaped(BlockRegistry.WEAPON_RACK_ITEM.get(), 1)
+            .pattern("LSL").pattern("LSL").pattern("LSL")
+            .define('L', lumber).define('S', rods)
+            .unlockedBy("has_lumber", has(lumber))
+            .save(output, recipeId("weapon_rack"));
+    }
+
+    private void generateArmory(RecipeOutput output) {
+        var lumber = TagKey.create(net.minecraft.core.registries.Registries.ITEM, ResourceLocation.parse("tfc:lumber"));
+        var chests = TagKey.create(net.minecraft.core.registries.Registries.ITEM, ResourceLocation.parse("c:chests/wooden"));
+
+        CraftingRecipeBuilder.shaped(BlockRegistry.ARMORY_ITEM.get(), 1)
+            .pattern("LLL").pattern("LCL").pattern("LLL")
+            .define('L', lumber).define('C', chests)
+            .unlockedBy("has_lumber", has(lumber))
+            .save(output, recipeId("armory"));
     }
 
     private void generateHiltAssemblyRecipes(RecipeOutput output, Function<ResourceUtils.ItemVariant, Optional<Item>> itemLookup) {
@@ -92,7 +120,7 @@ public class ModRecipeProvider extends EnhancedRecipeProvider {
                     .unlockedBy("has_grip", has(grip.get()))
                     .unlockedBy("has_guard", has(guard.get()))
                     .unlockedBy("has_pommel", has(pommel.get()))
-                    .save(output, recipeId(hiltVariant.getRegistryPath() + "/assembly"));
+                    .save(whenRegistered(output, hilt.get()), recipeId(hiltVariant.getRegistryPath() + "/assembly"));
             }
         });
     }
@@ -110,7 +138,7 @@ public class ModRecipeProvider extends EnhancedRecipeProvider {
                 .define('B', blade.get()).define('H', hilt.get())
                 .unlockedBy("has_hilt", has(hilt.get()))
                 .unlockedBy("has_blade", has(blade.get()))
-                .save(output, recipeId(weaponVariant.getRegistryPath() + "/assembly"));
+                .save(whenRegistered(output, weapon.get()), recipeId(weaponVariant.getRegistryPath() + "/assembly"));
         }
     }
 
@@ -127,7 +155,7 @@ public class ModRecipeProvider extends EnhancedRecipeProvider {
                 .define('B', blade.get()).define('H', hilt.get())
                 .unlockedBy("has_hilt", has(hilt.get()))
                 .unlockedBy("has_blade", has(blade.get()))
-                .save(output, recipeId(weaponVariant.getRegistryPath() + "/assembly"));
+                .save(whenRegistered(output, weapon.get()), recipeId(weaponVariant.getRegistryPath() + "/assembly"));
         }
     }
 
@@ -144,7 +172,7 @@ public class ModRecipeProvider extends EnhancedRecipeProvider {
                 .define('B', blade.get()).define('H', hilt.get())
                 .unlockedBy("has_hilt", has(hilt.get()))
                 .unlockedBy("has_blade", has(blade.get()))
-                .save(output, recipeId(weaponVariant.getRegistryPath() + "/assembly"));
+                .save(whenRegistered(output, weapon.get()), recipeId(weaponVariant.getRegistryPath() + "/assembly"));
         }
     }
 
@@ -176,7 +204,7 @@ public class ModRecipeProvider extends EnhancedRecipeProvider {
             
             builder.define('H', head.get()).define('P', pommel.get()).define('G', grip.get())
                 .unlockedBy("has_head", has(head.get()))
-                .save(output, recipeId(weaponVariant.getRegistryPath() + "/assembly"));
+                .save(whenRegistered(output, weapon.get()), recipeId(weaponVariant.getRegistryPath() + "/assembly"));
         }
     }
 
@@ -208,7 +236,7 @@ public class ModRecipeProvider extends EnhancedRecipeProvider {
             
             builder.define('H', head.get()).define('P', pommel.get()).define('G', grip.get())
                 .unlockedBy("has_head", has(head.get()))
-                .save(output, recipeId(weaponVariant.getRegistryPath() + "/assembly"));
+                .save(whenRegistered(output, weapon.get()), recipeId(weaponVariant.getRegistryPath() + "/assembly"));
         }
     }
 
@@ -234,7 +262,7 @@ public class ModRecipeProvider extends EnhancedRecipeProvider {
 
         spec.rules().forEach(builder::rule);
             
-        builder.save(output, recipeId(itemVariant.getRegistryPath()));
+        builder.save(whenRegistered(output, resultItem), recipeId(itemVariant.getRegistryPath()));
     }
 
     private static Stream<Metal> metalStream() {
@@ -247,6 +275,14 @@ public class ModRecipeProvider extends EnhancedRecipeProvider {
         return holder != null ? holder.get() : null;
     }
 
+    /**
+     * Recipes are only loaded while their result is registered, so they are skipped for variants disabled in the
+     * startup config.
+     */
+    private static RecipeOutput whenRegistered(RecipeOutput output, Item item) {
+        return output.withConditions(new ItemExistsCondition(BuiltInRegistries.ITEM.getKey(item)));
+    }
+
     private static ResourceLocation recipeId(String path) {
         return ResourceLocation.fromNamespaceAndPath(TFCWeaponsPlus.MOD_ID, path);
     }
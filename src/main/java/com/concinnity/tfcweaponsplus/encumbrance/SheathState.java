@@ -0,0 +1,45 @@
+package com.concinnity.tfcweaponsplus.encumbrance;
+
+/**
+ * The weapon a player carries sheathed, as an {@link com.concinnity.tfcweaponsplus.generated.ItemVariants} ordinal.
+ * On the server it is worked out again only when marked dirty. On the client only {@link #variant()} is kept, as
+ * received from the server.
+ */
+public final class SheathState {
+    public static final int NONE = -1;
+
+    private int variant = NONE;
+    private int selected = -1;
+    private boolean dirty = true;
+
+    public int variant() {
+        return variant;
+    }
+
+    void setVariant(int variant) {
+        this.variant = variant;
+    }
+
+    int selected() {
+        return selected;
+    }
+
+    void setSelected(int selected) {
+        this.selected = selected;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void setDirty(boolean dirty) {
+        this.dirty = dirty;
+    }
+
+    /**
+     * Called on the client with the variant sent by the server.
+     */
+    public void receive(int variant) {
+        this.variant = variant;
+    }
+}
@@ -0,0 +1,117 @@
+package com.concinnity.tfcweaponsplus.encumbrance;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.network.SheathPayload;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import com.concinnity.tfcweaponsplus.registration.AttachmentRegistry;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.tick.PlayerTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Picks the weapon each player wears on their body: the largest one in the main inventory, by size and then
+ * weight, leaving out the one in hand. Clients can't pick it themselves, as they are only sent other players'
+ * hands and armor, so the server sends a {@link SheathPayload} to the player and everyone tracking them when the
+ * choice changes.
+ * <p>
+ * The inventory is only read again after {@link WeaponLoadTracker} has seen one of its slots change, or the
+ * player has selected another hotbar slot. A player who changes dimension or respawns gets a new client-side player
+ * with nothing sheathed, so the choice is made and sent again then.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class SheathTracker {
+
+    private SheathTracker() {}
+
+    public static SheathState get(Player player) {
+        return player.getData(AttachmentRegistry.SHEATH);
+    }
+
+    static void markDirty(ServerPlayer player) {
+        get(player).setDirty(true);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerTickPost(PlayerTickEvent.Post event) {
+        if (!(event.getEntity() instanceof ServerPlayer player)) {
+            return;
+        }
+        SheathState sheath = get(player);
+        Inventory inventory = player.getInventory();
+        if (!sheath.isDirty() && sheath.selected() == inventory.selected) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        sheath.setDirty(false);
+        sheath.setSelected(inventory.selected);
+        int variant = choose(inventory);
+        if (variant != sheath.variant()) {
+            sheath.setVariant(variant);
+            PacketDistributor.sendToPlayersTrackingEntityAndSelf(player, new SheathPayload(player.getId(), variant));
+        }
+        ModProfiler.end(ModProfiler.Subsystem.WEAPON_LOAD, start);
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            resend(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            resend(player);
+        }
+    }
+
+    /**
+     * Forgets what the client was last sent, so the next tick sends the choice again if there is one.
+     */
+    private static void resend(ServerPlayer player) {
+        SheathState sheath = get(player);
+        sheath.setVariant(SheathState.NONE);
+        sheath.setDirty(true);
+    }
+
+    @SubscribeEvent
+    public static void onStartTracking(PlayerEvent.StartTracking event) {
+        if (event.getTarget() instanceof Player target && event.getEntity() instanceof ServerPlayer watcher) {
+            int variant = get(target).variant();
+            if (variant != SheathState.NONE) {
+                PacketDistributor.sendToPlayer(watcher, new SheathPayload(target.getId(), variant));
+            }
+        }
+    }
+
+    /**
+     * @return the variant of the largest weapon outside the selected slot, the first one found among equals, or
+     * {@link SheathState#NONE}
+     */
+    private static int choose(Inventory inventory) {
+        int variant = SheathState.NONE;
+        WeaponType largest = null;
+        for (int slot = 0; slot < inventory.items.size(); slot++) {
+            if (slot != inventory.selected && inventory.items.get(slot).getItem() instanceof AnimatedItem item
+                    && item.getVariant().item() instanceof WeaponType weapon && (largest == null || isLarger(weapon, largest))) {
+                largest = weapon;
+                variant = item.getVariant().ordinal();
+            }
+        }
+        return variant;
+    }
+
+    private static boolean isLarger(WeaponType weapon, WeaponType than) {
+        int size = Integer.compare(weapon.getSize().ordinal(), than.getSize().ordinal());
+        return size != 0 ? size > 0 : weapon.getWeight().ordinal() > than.getWeight().ordinal();
+    }
+}
@@ -0,0 +1,44 @@
+package com.concinnity.tfcweaponsplus.encumbrance;
+
+import net.minecraft.world.entity.player.Inventory;
+
+/**
+ * Running weight of our items carried by one player, kept per inventory slot so that a slot change only adjusts the
+ * total by the difference. Points come from {@link WeaponLoadTracker#points}.
+ */
+public final class WeaponLoad {
+    private int[] slotPoints;
+    private int total;
+    private int grade;
+
+    boolean isTracking() {
+        return slotPoints != null;
+    }
+
+    void startTracking(Inventory inventory) {
+        slotPoints = new int[inventory.getContainerSize()];
+        total = 0;
+        grade = 0;
+    }
+
+    /**
+     * @return the new total
+     */
+    int set(int slot, int points) {
+        total += points - slotPoints[slot];
+        slotPoints[slot] = points;
+        return total;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getGrade() {
+        return grade;
+    }
+
+    void setGrade(int grade) {
+        this.grade = grade;
+    }
+}
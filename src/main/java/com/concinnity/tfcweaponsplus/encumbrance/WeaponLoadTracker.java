@@ -0,0 +1,158 @@
+package com.concinnity.tfcweaponsplus.encumbrance;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import com.concinnity.tfcweaponsplus.registration.AttachmentRegistry;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import net.dries007.tfc.common.component.size.Weight;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerContainerEvent;
+
+/**
+ * Slows players down, in movement and attack speed, by the weight of the weapons and components they carry.
+ * <p>
+ * Nothing here scans inventories per tick. A {@link ContainerListener} on the player's menus is told about each
+ * slot that changed, from the diff vanilla already makes every tick to sync the menu, and adjusts the running
+ * {@link WeaponLoad}. The inventory is only read in full once, when the player joins a level. Attribute modifiers
+ * are swapped only when the penalty grade changes. While another menu is open, only its slots backed by the
+ * player's inventory are followed.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class WeaponLoadTracker {
+    /** Load carried without any penalty: one very heavy weapon. */
+    public static final int FREE_POINTS = 4;
+    public static final int POINTS_PER_GRADE = 4;
+    public static final int MAX_GRADE = 4;
+
+    private static final ResourceLocation MODIFIER_ID = ResourceUtils.of("weapon_load");
+    private static final double MOVEMENT_PENALTY_PER_GRADE = 0.08;
+    private static final double ATTACK_SPEED_PENALTY_PER_GRADE = 0.05;
+    private static final AttributeModifier[] MOVEMENT_MODIFIERS = modifiers(MOVEMENT_PENALTY_PER_GRADE);
+    private static final AttributeModifier[] ATTACK_SPEED_MODIFIERS = modifiers(ATTACK_SPEED_PENALTY_PER_GRADE);
+
+    private static long slotUpdates;
+
+    private WeaponLoadTracker() {}
+
+    public static WeaponLoad get(ServerPlayer player) {
+        return player.getData(AttachmentRegistry.WEAPON_LOAD);
+    }
+
+    public static int points(ItemStack stack) {
+        if (!(stack.getItem() instanceof AnimatedItem item)) {
+            return 0;
+        }
+        return stack.getCount() * points(item.getVariant().item().getWeight());
+    }
+
+    public static int grade(int total) {
+        return total <= FREE_POINTS ? 0 : Math.min(MAX_GRADE, (total - FREE_POINTS - 1) / POINTS_PER_GRADE + 1);
+    }
+
+    public static long getSlotUpdates() {
+        return slotUpdates;
+    }
+
+    private static int points(Weight weight) {
+        return switch (weight) {
+            case VERY_HEAVY -> 4;
+            case HEAVY -> 2;
+            case MEDIUM -> 1;
+            default -> 0;
+        };
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (!(event.getEntity() instanceof ServerPlayer player)) {
+            return;
+        }
+
+        WeaponLoad load = get(player);
+        if (load.isTracking()) {
+            return;
+        }
+
+        Inventory inventory = player.getInventory();
+        load.startTracking(inventory);
+        for (int slot = 0; slot < inventory.getContainerSize(); slot++) {
+            load.set(slot, points(inventory.getItem(slot)));
+        }
+        applyGrade(player, load);
+        player.inventoryMenu.addSlotListener(new SlotListener(player));
+    }
+
+    @SubscribeEvent
+    public static void onContainerOpen(PlayerContainerEvent.Open event) {
+        if (event.getEntity() instanceof ServerPlayer player && get(player).isTracking()) {
+            event.getContainer().addSlotListener(new SlotListener(player));
+        }
+    }
+
+    private static void update(ServerPlayer player, int slot, ItemStack stack) {
+        long start = ModProfiler.begin();
+        WeaponLoad load = get(player);
+        load.set(slot, points(stack));
+        slotUpdates++;
+        applyGrade(player, load);
+        SheathTracker.markDirty(player);
+        ModProfiler.end(ModProfiler.Subsystem.WEAPON_LOAD, start);
+    }
+
+    private static void applyGrade(ServerPlayer player, WeaponLoad load) {
+        int grade = grade(load.getTotal());
+        if (grade == load.getGrade()) {
+            return;
+        }
+        long start = ModProfiler.begin();
+        load.setGrade(grade);
+        apply(player.getAttribute(Attributes.MOVEMENT_SPEED), MOVEMENT_MODIFIERS[grade]);
+        apply(player.getAttribute(Attributes.ATTACK_SPEED), ATTACK_SPEED_MODIFIERS[grade]);
+        ModProfiler.end(ModProfiler.Subsystem.ATTRIBUTES, start);
+    }
+
+    private static void apply(AttributeInstance attribute, AttributeModifier modifier) {
+        if (attribute == null) {
+            return;
+        }
+        attribute.removeModifier(MODIFIER_ID);
+        if (modifier != null) {
+            attribute.addTransientModifier(modifier);
+        }
+    }
+
+    private static AttributeModifier[] modifiers(double penaltyPerGrade) {
+        AttributeModifier[] modifiers = new AttributeModifier[MAX_GRADE + 1];
+        for (int grade = 1; grade <= MAX_GRADE; grade++) {
+            modifiers[grade] = new AttributeModifier(MODIFIER_ID, -penaltyPerGrade * grade, AttributeModifier.Operation.ADD_MULTIPLIED_TOTAL);
+        }
+        return modifiers;
+    }
+
+    private record SlotListener(ServerPlayer player) implements ContainerListener {
+
+        @Override
+        public void slotChanged(AbstractContainerMenu menu, int index, ItemStack stack) {
+            Slot slot = menu.getSlot(index);
+            if (slot.container == player.getInventory()) {
+                update(player, slot.getContainerSlot(), stack);
+            }
+        }
+
+        @Override
+        public void dataChanged(AbstractContainerMenu menu, int index, int value) {}
+    }
+}
@@ -0,0 +1,135 @@
+package com.concinnity.tfcweaponsplus.entity;
+
+import com.concinnity.tfcweaponsplus.registration.EntityRegistry;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * What our items become when dropped. It behaves as a vanilla item entity while moving, but once it has lain still
+ * on the ground for {@link #REST_TICKS} ticks, the server stops ticking it: no physics, no fluid or fire checks. A
+ * sleeping item only counts its age, so it still despawns on time, and looks around every {@link #CHECK_INTERVAL}
+ * ticks. It wakes if the block it lies on or in has changed, or a player has come within {@link #WAKE_RANGE}
+ * blocks, and at once if it is hurt or pushed. Players and hoppers pick it up while it sleeps, as they look for
+ * items themselves.
+ * <p>
+ * Our items never merge, as they stack to one, so vanilla already skips the search for neighbours to merge with.
+ * The client never sleeps items, which keeps them bobbing.
+ */
+public class WeaponItemEntity extends ItemEntity {
+    private static final int REST_TICKS = 20;
+    private static final int CHECK_INTERVAL = 20;
+    private static final double WAKE_RANGE = 8;
+    private static final double REST_SPEED_SQR = 1.0E-6;
+    /** The age of items that never despawn, which does not count up. */
+    private static final int UNLIMITED_AGE = -32768;
+
+    private int restTicks;
+    private boolean asleep;
+    private int sleptTicks;
+    @Nullable
+    private BlockState restingOn;
+    @Nullable
+    private BlockState restingIn;
+
+    public WeaponItemEntity(EntityType<? extends WeaponItemEntity> type, Level level) {
+        super(type, level);
+    }
+
+    /**
+     * Replaces an item entity that was about to be added, keeping its position, motion, age, pickup delay and owner.
+     */
+    public WeaponItemEntity(Level level, Entity location, ItemStack stack) {
+        this(EntityRegistry.WEAPON_ITEM.get(), level);
+        load(location.saveWithoutId(new CompoundTag()));
+        setItem(stack);
+    }
+
+    public boolean isAsleep() {
+        return asleep;
+    }
+
+    @Override
+    public void tick() {
+        if (asleep) {
+            if (getAge() != UNLIMITED_AGE) {
+                sleptTicks++;
+            }
+            boolean expiring = getAge() != UNLIMITED_AGE && getAge() + sleptTicks >= lifespan;
+            if (!expiring && ((tickCount + getId()) % CHECK_INTERVAL != 0 || !isDisturbed())) {
+                return;
+            }
+            wake();
+        }
+
+        super.tick();
+        if (level().isClientSide || isRemoved()) {
+            return;
+        }
+        boolean resting = onGround() && getDeltaMovement().lengthSqr() < REST_SPEED_SQR && !hasPickUpDelay()
+                && !isOnFire() && !isInWater() && !isInLava();
+        restTicks = resting ? restTicks + 1 : 0;
+        if (restTicks >= REST_TICKS && level().getNearestPlayer(this, WAKE_RANGE) == null) {
+            asleep = true;
+            restingOn = level().getBlockState(getOnPos());
+            restingIn = level().getBlockState(blockPosition());
+        }
+    }
+
+    private boolean isDisturbed() {
+        return level().getBlockState(getOnPos()) != restingOn || level().getBlockState(blockPosition()) != restingIn
+                || level().getNearestPlayer(this, WAKE_RANGE) != null;
+    }
+
+    /**
+     * Catches the vanilla age up with the ticks slept, by shortening the lifespan instead, as the age can't be set.
+     */
+    private void wake() {
+        if (!asleep) {
+            return;
+        }
+        lifespan -= sleptTicks;
+        asleep = false;
+        sleptTicks = 0;
+        restTicks = 0;
+        restingOn = null;
+        restingIn = null;
+    }
+
+    @Override
+    public boolean hurt(@NotNull DamageSource source, float amount) {
+        wake();
+        return super.hurt(source, amount);
+    }
+
+    @Override
+    public void push(double x, double y, double z) {
+        wake();
+        super.push(x, y, z);
+    }
+
+    @Override
+    public void setDeltaMovement(@NotNull Vec3 motion) {
+        if (motion.lengthSqr() >= REST_SPEED_SQR) {
+            wake();
+        }
+        super.setDeltaMovement(motion);
+    }
+
+    @Override
+    public void addAdditionalSaveData(@NotNull CompoundTag tag) {
+        // saved as awake with its true remaining life; it falls asleep again once loaded
+        int slept = sleptTicks;
+        lifespan -= slept;
+        super.addAdditionalSaveData(tag);
+        lifespan += slept;
+    }
+}
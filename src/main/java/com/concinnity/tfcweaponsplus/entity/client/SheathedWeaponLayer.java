@@ -0,0 +1,124 @@
+package com.concinnity.tfcweaponsplus.entity.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.block.client.WeaponRackBatch;
+import com.concinnity.tfcweaponsplus.config.ClientConfig;
+import com.concinnity.tfcweaponsplus.encumbrance.SheathState;
+import com.concinnity.tfcweaponsplus.encumbrance.SheathTracker;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.item.client.WeaponMeshCache;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.math.Axis;
+import net.dries007.tfc.common.component.size.Size;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.model.PlayerModel;
+import net.minecraft.client.player.AbstractClientPlayer;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.renderer.entity.LivingEntityRenderer;
+import net.minecraft.client.renderer.entity.RenderLayerParent;
+import net.minecraft.client.renderer.entity.layers.RenderLayer;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
+import org.jetbrains.annotations.NotNull;
+import org.joml.Vector3f;
+
+/**
+ * Draws the weapon a player carries sheathed, as picked by {@link SheathTracker}: very large weapons across the
+ * back, others at the left hip. Nothing reads the inventory here; the choice only changes when the server sends a
+ * new one. The weapon is drawn from the shared static mesh in {@link WeaponMeshCache} and batched with the racked
+ * weapons in {@link WeaponRackBatch}, never through GeckoLib.
+ * <p>
+ * Players outside the frustum are culled with their layers before this is called. Beyond the configured distance
+ * the weapon is left out, and once {@link #VERTEX_BUDGET} vertices have been queued in a frame, the remaining
+ * players are drawn without theirs, which bounds the cost of a crowd however large it is. What the layer costs per
+ * player, and the frames around it, show in the profiler as {@link ModProfiler.Subsystem#SHEATHED_WEAPONS} and
+ * {@link ModProfiler.Subsystem#FRAMES}.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, value = Dist.CLIENT)
+public class SheathedWeaponLayer extends RenderLayer<AbstractClientPlayer, PlayerModel<AbstractClientPlayer>> {
+    private static final int VERTEX_BUDGET = 1 << 17;
+    private static final ItemStack[] STACKS = new ItemStack[ItemVariants.COUNT];
+    private static final Vector3f SCRATCH = new Vector3f();
+
+    private static int verticesQueued;
+
+    private final ItemRenderer itemRenderer;
+
+    public SheathedWeaponLayer(RenderLayerParent<AbstractClientPlayer, PlayerModel<AbstractClientPlayer>> renderer, ItemRenderer itemRenderer) {
+        super(renderer);
+        this.itemRenderer = itemRenderer;
+    }
+
+    @Override
+    public void render(@NotNull PoseStack poseStack, @NotNull MultiBufferSource bufferSource, int packedLight, AbstractClientPlayer player,
+                       float limbSwing, float limbSwingAmount, float partialTick, float ageInTicks, float netHeadYaw, float headPitch) {
+        int variant = SheathTracker.get(player).variant();
+        if (variant == SheathState.NONE || variant >= ItemVariants.COUNT || player.isInvisible()) {
+            return;
+        }
+        AnimatedItem item = ItemRegistry.get(variant);
+        WeaponMeshCache.Entry entry = item != null ? WeaponMeshCache.get(item) : null;
+        if (entry == null) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        boolean batched = WeaponRackBatch.isCollecting();
+        if (batched) {
+            double distance = ClientConfig.sheathedWeaponDistance();
+            if (Minecraft.getInstance().getEntityRenderDispatcher().distanceToSqr(player) > distance * distance
+                    || verticesQueued + entry.mesh().vertexCount() > VERTEX_BUDGET) {
+                ModProfiler.end(ModProfiler.Subsystem.SHEATHED_WEAPONS, start);
+                return;
+            }
+            verticesQueued += entry.mesh().vertexCount();
+        }
+
+        ItemStack stack = STACKS[variant];
+        if (stack == null) {
+            stack = STACKS[variant] = new ItemStack(item);
+        }
+
+        poseStack.pushPose();
+        getParentModel().body.translateAndRotate(poseStack);
+        float armor = player.hasItemInSlot(EquipmentSlot.CHEST) ? 0.06f : 0.0f;
+        if (item.getVariant().item().getSize().ordinal() >= Size.VERY_LARGE.ordinal()) {
+            poseStack.translate(0.0f, 0.35f, 0.16f + armor);
+            poseStack.mulPose(Axis.ZP.rotationDegrees(-45.0f));
+            poseStack.mulPose(Axis.XP.rotationDegrees(180.0f));
+        } else {
+            poseStack.translate(0.3f + armor, 0.7f, 0.05f);
+            poseStack.mulPose(Axis.XP.rotationDegrees(20.0f));
+            poseStack.mulPose(Axis.YP.rotationDegrees(90.0f));
+        }
+        itemRenderer.getModel(stack, player.level(), player, 0).applyTransform(ItemDisplayContext.FIXED, poseStack, false);
+        // ItemRenderer's -0.5 offset followed by GeoItemRenderer's recentring
+        poseStack.translate(0.0f, 0.01f, 0.0f);
+
+        int packedOverlay = LivingEntityRenderer.getOverlayCoords(player, 0.0f);
+        PoseStack.Pose pose = poseStack.last();
+        if (batched) {
+            WeaponRackBatch.add(entry, pose, packedLight, packedOverlay);
+        } else {
+            entry.mesh().render(bufferSource.getBuffer(entry.renderType()), pose.pose(), pose.normal(), packedLight, packedOverlay, SCRATCH);
+        }
+        poseStack.popPose();
+        ModProfiler.end(ModProfiler.Subsystem.SHEATHED_WEAPONS, start);
+    }
+
+    @SubscribeEvent
+    public static void onRenderLevelStage(RenderLevelStageEvent event) {
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_CUTOUT_BLOCKS) {
+            verticesQueued = 0;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.concinnity.tfcweaponsplus.equipment;
+
+import net.minecraft.util.RandomSource;
+
+/**
+ * Walker/Vose alias table over a fixed list of weights. Built once in O(n); each sample takes one bounded int and
+ * one float from the random source, whatever the number of entries, and does not allocate.
+ */
+public final class AliasTable {
+    private final float[] probability;
+    private final int[] alias;
+
+    private AliasTable(float[] probability, int[] alias) {
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * @param weights positive weights, one per entry
+     */
+    public static AliasTable of(int[] weights) {
+        int size = weights.length;
+        if (size == 0) {
+            throw new IllegalArgumentException("An alias table needs at least one entry");
+        }
+
+        long total = 0;
+        for (int weight : weights) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("Weights must be positive, got " + weight);
+            }
+            total += weight;
+        }
+
+        float[] probability = new float[size];
+        int[] alias = new int[size];
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = (double) weights[i] * size / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = (float) scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // whatever is left is 1 up to rounding
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0f;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0f;
+        }
+
+        return new AliasTable(probability, alias);
+    }
+
+    public int size() {
+        return probability.length;
+    }
+
+    public int sample(RandomSource random) {
+        int column = random.nextInt(probability.length);
+        return random.nextFloat() < probability[column] ? column : alias[column];
+    }
+}
@@ -0,0 +1,225 @@
+package com.concinnity.tfcweaponsplus.equipment;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.ExtraCodecs;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.Difficulty;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.monster.AbstractSkeleton;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.biome.Biome;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.living.FinalizeSpawnEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Arms newly spawned mobs with our weapons, from the tables in {@code data/<namespace>/mob_equipment}:
+ * <pre>{@code
+ * {
+ *   "entities": ["minecraft:zombie", "minecraft:husk"],
+ *   "biomes": "#minecraft:is_badlands",          (optional, any biome if absent)
+ *   "difficulties": ["normal", "hard"],          (optional, every difficulty if absent)
+ *   "chance": 0.1,
+ *   "weapons": [{"weapon": "sword", "metal": "copper", "weight": 5}, ...]
+ * }
+ * }</pre>
+ * For each entity type the tables are checked in order of their id, and the first one matching the biome and
+ * difficulty is used. Weapons are compiled into an {@link AliasTable} on reload, so choosing one is constant time
+ * and allocation free however long the list is. Weapons disabled in the startup config are left out.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class MobEquipment extends SimpleJsonResourceReloadListener {
+    private static final Gson GSON = new Gson();
+    private static final String UNARMED = TFCWeaponsPlus.MOD_ID + ":unarmed";
+
+    private static volatile Map<EntityType<?>, Table[]> tables = Map.of();
+
+    private MobEquipment() {
+        super(GSON, "mob_equipment");
+    }
+
+    /**
+     * @return the weapon to give a mob of this type spawning in this biome, or null to leave it as it is
+     */
+    @Nullable
+    public static Item choose(EntityType<?> type, Holder<Biome> biome, Difficulty difficulty, RandomSource random) {
+        Table[] candidates = tables.get(type);
+        if (candidates == null) {
+            return null;
+        }
+        for (Table table : candidates) {
+            if (table.matches(biome, difficulty)) {
+                return random.nextFloat() < table.chance() ? table.items()[table.weights().sample(random)] : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of tables and weapon entries loaded, for size estimates
+     */
+    public static int entryCount() {
+        int entries = 0;
+        for (Table[] candidates : tables.values()) {
+            for (Table table : candidates) {
+                entries += 1 + table.items().length;
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    protected void apply(@NotNull Map<ResourceLocation, JsonElement> definitions, @NotNull ResourceManager resourceManager, @NotNull ProfilerFiller profiler) {
+        Map<EntityType<?>, List<Table>> byType = new IdentityHashMap<>();
+        new TreeMap<>(definitions).forEach((id, json) -> Definition.CODEC.parse(JsonOps.INSTANCE, json)
+                .resultOrPartial(error -> TFCWeaponsPlus.LOGGER.error("Invalid mob equipment table {}: {}", id, error))
+                .flatMap(definition -> compile(id, definition))
+                .ifPresent(table -> table.entities().forEach(type -> byType.computeIfAbsent(type, t -> new ArrayList<>()).add(table.table()))));
+
+        Map<EntityType<?>, Table[]> compiled = new IdentityHashMap<>();
+        byType.forEach((type, list) -> compiled.put(type, list.toArray(Table[]::new)));
+        tables = compiled;
+        TFCWeaponsPlus.LOGGER.info("Loaded {} mob equipment tables for {} entity types", definitions.size(), compiled.size());
+    }
+
+    private static Optional<Compiled> compile(ResourceLocation id, Definition definition) {
+        List<Item> items = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (WeightedWeapon weapon : definition.weapons()) {
+            int ordinal = ItemVariants.ordinalOf(weapon.weapon(), weapon.metal());
+            AnimatedItem item = ordinal < 0 ? null : ItemRegistry.get(ordinal);
+            if (item != null) {
+                items.add(item);
+                weights.add(weapon.weight());
+            }
+        }
+        if (items.isEmpty()) {
+            TFCWeaponsPlus.LOGGER.debug("Skipping mob equipment table {}, none of its weapons are enabled", id);
+            return Optional.empty();
+        }
+
+        int difficulties = 0;
+        for (Difficulty difficulty : definition.difficulties().orElse(Arrays.asList(Difficulty.values()))) {
+            difficulties |= 1 << difficulty.ordinal();
+        }
+        Table table = new Table(definition.biomes().orElse(null), difficulties, definition.chance(),
+                items.toArray(Item[]::new), AliasTable.of(weights.stream().mapToInt(Integer::intValue).toArray()));
+        return Optional.of(new Compiled(definition.entities(), table));
+    }
+
+    /**
+     * Vanilla picks its own equipment in {@link Mob#finalizeSpawn}, which runs after this event and would replace
+     * ours, so the mob is only marked here and armed once it joins the level. Mobs spawned with the world join when
+     * their chunk is first loaded, which is why the mark is kept in their saved data.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onFinalizeSpawn(FinalizeSpawnEvent event) {
+        if (!event.isSpawnCancelled() && tables.containsKey(event.getEntity().getType())) {
+            event.getEntity().getPersistentData().putBoolean(UNARMED, true);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel level && event.getEntity() instanceof Mob mob && mob.getPersistentData().contains(UNARMED)) {
+            long start = ModProfiler.begin();
+            mob.getPersistentData().remove(UNARMED);
+            equip(level, mob);
+            ModProfiler.end(ModProfiler.Subsystem.MOB_EQUIPMENT, start);
+        }
+    }
+
+    private static void equip(ServerLevel level, Mob mob) {
+        Item weapon = choose(mob.getType(), level.getBiome(mob.blockPosition()), level.getDifficulty(), mob.getRandom());
+        if (weapon == null) {
+            return;
+        }
+
+        mob.setItemSlot(EquipmentSlot.MAINHAND, new ItemStack(weapon));
+        if (mob instanceof AbstractSkeleton skeleton) {
+            skeleton.reassessWeaponGoal();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener(new MobEquipment());
+    }
+
+    private record Table(@Nullable TagKey<Biome> biomes, int difficulties, float chance, Item[] items, AliasTable weights) {
+
+        boolean matches(Holder<Biome> biome, Difficulty difficulty) {
+            return (difficulties & 1 << difficulty.ordinal()) != 0 && (biomes == null || biome.is(biomes));
+        }
+    }
+
+    private record Compiled(List<EntityType<?>> entities, Table table) {}
+
+    private record WeightedWeapon(WeaponType weapon, Metal metal, int weight) {
+        static final Codec<WeaponType> WEAPON_CODEC = Codec.STRING.comapFlatMap(name -> Arrays.stream(WeaponType.values())
+                .filter(type -> type.getSerializedName().equals(name))
+                .findFirst()
+                .map(DataResult::success)
+                .orElseGet(() -> DataResult.error(() -> "Unknown weapon type " + name)), WeaponType::getSerializedName);
+
+        static final Codec<Metal> METAL_CODEC = Codec.STRING.comapFlatMap(name -> ItemVariants.metals().stream()
+                .filter(metal -> metal.getSerializedName().equals(name))
+                .findFirst()
+                .map(DataResult::success)
+                .orElseGet(() -> DataResult.error(() -> "Unknown weapon metal " + name)), Metal::getSerializedName);
+
+        static final Codec<WeightedWeapon> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                WEAPON_CODEC.fieldOf("weapon").forGetter(WeightedWeapon::weapon),
+                METAL_CODEC.fieldOf("metal").forGetter(WeightedWeapon::metal),
+                ExtraCodecs.POSITIVE_INT.optionalFieldOf("weight", 1).forGetter(WeightedWeapon::weight)
+        ).apply(instance, WeightedWeapon::new));
+    }
+
+    private record Definition(List<EntityType<?>> entities, Optional<TagKey<Biome>> biomes, Optional<List<Difficulty>> difficulties,
+                              float chance, List<WeightedWeapon> weapons) {
+        static final Codec<Definition> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                BuiltInRegistries.ENTITY_TYPE.byNameCodec().listOf().fieldOf("entities").forGetter(Definition::entities),
+                TagKey.hashedCodec(Registries.BIOME).optionalFieldOf("biomes").forGetter(Definition::biomes),
+                Difficulty.CODEC.listOf().optionalFieldOf("difficulties").forGetter(Definition::difficulties),
+                Codec.floatRange(0, 1).fieldOf("chance").forGetter(Definition::chance),
+                WeightedWeapon.CODEC.listOf().fieldOf("weapons").forGetter(Definition::weapons)
+        ).apply(instance, Definition::new));
+    }
+}
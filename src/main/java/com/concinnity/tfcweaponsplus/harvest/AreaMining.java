@@ -0,0 +1,94 @@
+package com.concinnity.tfcweaponsplus.harvest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Mines the three by three square around a block a player breaks with a greathammer, facing the player, unless
+ * they are sneaking. The other eight blocks are broken at once as one {@link BlockBreakBatch}, dropping at the
+ * mined block: eight blocks of rock cost one stack of drops and one durability change.
+ * <p>
+ * A block is only taken along if the hammer mines it properly and it is no harder than the block mined, so ores
+ * and anything else tougher than the rock around them are left for the player. Both checks are made once per
+ * block state per swing.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class AreaMining {
+    private static final BlockBreakBatch BATCH = new BlockBreakBatch();
+    private static final Map<BlockState, Boolean> ELIGIBLE = new IdentityHashMap<>();
+
+    private AreaMining() {}
+
+    /**
+     * Runs last, so a break that protection or other mods cancel takes nothing along with it.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBreak(BlockEvent.BreakEvent event) {
+        if (event.isCanceled() || BlockBreakBatch.isPosting() || !(event.getPlayer() instanceof ServerPlayer player) || player.isShiftKeyDown()
+                || !(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+        ItemStack tool = player.getMainHandItem();
+        BlockState origin = event.getState();
+        if (!(tool.getItem() instanceof AnimatedItem item) || item.getVariant().item() != WeaponType.GREATHAMMER
+                || !tool.isCorrectToolForDrops(origin)) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        BlockPos center = event.getPos();
+        float hardness = origin.getDestroySpeed(level, center);
+        Direction.Axis axis = face(player, center).getAxis();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int a = -1; a <= 1; a++) {
+            for (int b = -1; b <= 1; b++) {
+                if (a == 0 && b == 0) {
+                    continue;
+                }
+                switch (axis) {
+                    case X -> pos.setWithOffset(center, 0, a, b);
+                    case Y -> pos.setWithOffset(center, a, 0, b);
+                    case Z -> pos.setWithOffset(center, a, b, 0);
+                }
+                BlockState state = level.getBlockState(pos);
+                if (ELIGIBLE.computeIfAbsent(state, s -> tool.isCorrectToolForDrops(s) && tool.getDestroySpeed(s) > 1)
+                        && state.getDestroySpeed(level, pos) <= hardness) {
+                    BATCH.breakBlock(level, pos, player, tool);
+                }
+            }
+        }
+        ELIGIBLE.clear();
+        if (!BATCH.isEmpty()) {
+            BATCH.flush(level, center);
+        }
+        ModProfiler.end(ModProfiler.Subsystem.BLOCK_BREAKS, start);
+    }
+
+    /**
+     * @return the face of the block the player is looking at, or the side facing them if they look elsewhere
+     */
+    private static Direction face(ServerPlayer player, BlockPos pos) {
+        HitResult hit = player.pick(player.blockInteractionRange(), 1, false);
+        if (hit instanceof BlockHitResult blockHit && blockHit.getType() == HitResult.Type.BLOCK && blockHit.getBlockPos().equals(pos)) {
+            return blockHit.getDirection();
+        }
+        return Direction.orderedByNearest(player)[0].getOpposite();
+    }
+}
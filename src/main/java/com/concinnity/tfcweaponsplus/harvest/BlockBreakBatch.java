@@ -0,0 +1,183 @@
+package com.concinnity.tfcweaponsplus.harvest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.protocol.game.ClientboundLevelEventPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.stats.Stats;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.ExperienceOrb;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.GameType;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.GameMasterBlock;
+import net.minecraft.world.level.block.LevelEvent;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.common.CommonHooks;
+import net.neoforged.neoforge.event.EventHooks;
+import net.neoforged.neoforge.event.level.BlockDropsEvent;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Breaks many blocks as one change. Each block goes through the same steps as one the player mines by hand in
+ * {@link net.minecraft.server.level.ServerPlayerGameMode#destroyBlock}: the {@link BlockEvent.BreakEvent},
+ * {@code playerWillDestroy}, {@code onDestroyedByPlayer} and, when the tool can harvest it, {@code playerDestroy},
+ * so block specific behaviour, statistics and exhaustion all apply. Only the results are batched: the drops and
+ * experience of each block are caught in {@link BlockDropsEvent} and merged with those of the blocks before it, and
+ * {@link #flush} then drops them in one place and wears the tool once for all the blocks, so breaking a tree costs
+ * a few dozen item entities instead of one per log.
+ * <p>
+ * Block changes and light checks are already collected by the chunk and sent or run once per tick, one packet per
+ * chunk section, so they need no batching here.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class BlockBreakBatch {
+    /** Break particles and sounds sent to the player per flush, as sending one per block floods them for nothing. */
+    private static final int MAX_EFFECTS = 4;
+
+    private static boolean posting;
+    @Nullable
+    private static BlockBreakBatch collecting;
+
+    private final LongArrayList order = new LongArrayList();
+    private final List<ItemStack> drops = new ArrayList<>();
+    private int experience;
+    @Nullable
+    private ServerPlayer player;
+    private ItemStack tool = ItemStack.EMPTY;
+
+    /**
+     * @return whether a batch is posting a break event, which break handlers that start batches should ignore
+     */
+    public static boolean isPosting() {
+        return posting;
+    }
+
+    /**
+     * Catches the drops and experience of the block a batch is breaking, after every other listener has had its say.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBlockDrops(BlockDropsEvent event) {
+        if (collecting == null || event.isCanceled()) {
+            return;
+        }
+        for (ItemEntity drop : event.getDrops()) {
+            collecting.merge(drop.getItem().copy());
+        }
+        event.getDrops().clear();
+        collecting.experience += event.getDroppedExperience();
+        event.setDroppedExperience(0);
+    }
+
+    /**
+     * Breaks the block as if the player had mined it with the tool, keeping its drops and without wearing the tool
+     * yet. All blocks in a batch must be broken by the same player and tool.
+     *
+     * @return whether the block was broken
+     */
+    public boolean breakBlock(ServerLevel level, BlockPos pos, ServerPlayer player, ItemStack tool) {
+        BlockState state = level.getBlockState(pos);
+        if (state.isAir() || state.getDestroySpeed(level, pos) < 0) {
+            return false;
+        }
+        GameType gameType = player.gameMode.getGameModeForPlayer();
+        posting = true;
+        try {
+            if (CommonHooks.fireBlockBreak(level, gameType, player, pos, state).isCanceled()) {
+                return false;
+            }
+        } finally {
+            posting = false;
+        }
+        if (state.getBlock() instanceof GameMasterBlock && !player.canUseGameMasterBlocks()
+                || player.blockActionRestricted(level, pos, gameType)) {
+            return false;
+        }
+
+        BlockEntity blockEntity = level.getBlockEntity(pos);
+        // sends the break particles to everyone but the player, who only sees them for blocks they mined themselves
+        BlockState destroyed = state.getBlock().playerWillDestroy(level, pos, state, player);
+        if (order.size() < MAX_EFFECTS) {
+            player.connection.send(new ClientboundLevelEventPacket(LevelEvent.PARTICLES_DESTROY_BLOCK, pos, Block.getId(destroyed), false));
+        }
+        boolean harvest = !player.isCreative() && destroyed.canHarvestBlock(level, pos, player);
+        collecting = this;
+        try {
+            if (!destroyed.onDestroyedByPlayer(level, pos, player, harvest, level.getFluidState(pos))) {
+                return false;
+            }
+            destroyed.getBlock().destroy(level, pos, destroyed);
+            if (harvest) {
+                destroyed.getBlock().playerDestroy(level, player, pos, destroyed, blockEntity, tool);
+            }
+        } finally {
+            collecting = null;
+        }
+        order.add(pos.asLong());
+        this.player = player;
+        this.tool = tool;
+
+        if (!player.isCreative()) {
+            player.awardStat(Stats.ITEM_USED.get(tool.getItem()));
+        }
+        return true;
+    }
+
+    private void merge(ItemStack drop) {
+        for (ItemStack stack : drops) {
+            if (drop.isEmpty()) {
+                return;
+            }
+            if (stack.getCount() < stack.getMaxStackSize() && ItemStack.isSameItemSameComponents(stack, drop)) {
+                int moved = Math.min(drop.getCount(), stack.getMaxStackSize() - stack.getCount());
+                stack.grow(moved);
+                drop.shrink(moved);
+            }
+        }
+        if (!drop.isEmpty()) {
+            drops.add(drop);
+        }
+    }
+
+    public boolean isEmpty() {
+        return order.isEmpty();
+    }
+
+    /**
+     * Drops everything and the experience at {@code dropAt}, takes one durability per block from the tool and clears
+     * the batch for reuse.
+     */
+    public void flush(ServerLevel level, BlockPos dropAt) {
+        for (ItemStack drop : drops) {
+            Block.popResource(level, dropAt, drop);
+        }
+        if (experience > 0) {
+            ExperienceOrb.award(level, Vec3.atCenterOf(dropAt), experience);
+        }
+        if (player != null && !player.isCreative()) {
+            ItemStack before = tool.copy();
+            tool.hurtAndBreak(order.size(), player, EquipmentSlot.MAINHAND);
+            if (tool.isEmpty() && !before.isEmpty()) {
+                EventHooks.onPlayerDestroyItem(player, before, InteractionHand.MAIN_HAND);
+            }
+        }
+        player = null;
+        tool = ItemStack.EMPTY;
+        experience = 0;
+        order.clear();
+        drops.clear();
+    }
+}
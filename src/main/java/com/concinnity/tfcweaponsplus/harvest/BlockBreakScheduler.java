@@ -0,0 +1,138 @@
+package com.concinnity.tfcweaponsplus.harvest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.config.ServerConfig;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Spreads large block breaks over several ticks. Each level breaks at most {@link ServerConfig#blocksPerTick()}
+ * blocks per tick, shared evenly between the jobs queued in it, so five players felling trees at once take longer
+ * rather than making a longer tick. Each job's share of a tick is broken as one {@link BlockBreakBatch}.
+ * <p>
+ * A job stops early once its player leaves the level, switches away from the tool or wears it out. Blocks that
+ * no longer match the job's filter when their turn comes are skipped.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class BlockBreakScheduler {
+    private static final Map<ServerLevel, ArrayDeque<Job>> QUEUES = new IdentityHashMap<>();
+    private static final BlockBreakBatch BATCH = new BlockBreakBatch();
+
+    private BlockBreakScheduler() {}
+
+    /**
+     * Queues the blocks at {@code positions}, packed with {@link BlockPos#asLong()}, to be broken in order by the
+     * player with the tool in their main hand. Drops land at {@code dropAt}.
+     */
+    public static void schedule(ServerPlayer player, ItemStack tool, long[] positions, BlockPos dropAt, Predicate<BlockState> filter) {
+        if (positions.length > 0) {
+            QUEUES.computeIfAbsent(player.serverLevel(), level -> new ArrayDeque<>())
+                    .add(new Job(player, tool, positions, dropAt.immutable(), filter));
+        }
+    }
+
+    /**
+     * @return blocks still queued in the level
+     */
+    public static int pending(ServerLevel level) {
+        ArrayDeque<Job> jobs = QUEUES.get(level);
+        if (jobs == null) {
+            return 0;
+        }
+        int pending = 0;
+        for (Job job : jobs) {
+            pending += job.positions.length - job.next;
+        }
+        return pending;
+    }
+
+    @SubscribeEvent
+    public static void onLevelTickPost(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+        ArrayDeque<Job> jobs = QUEUES.get(level);
+        if (jobs == null) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        int budget = ServerConfig.blocksPerTick();
+        while (budget > 0 && !jobs.isEmpty()) {
+            int share = Math.max(1, budget / jobs.size());
+            for (Iterator<Job> it = jobs.iterator(); it.hasNext() && budget > 0; ) {
+                Job job = it.next();
+                budget -= job.run(level, Math.min(share, budget));
+                if (job.isDone(level)) {
+                    it.remove();
+                }
+            }
+        }
+        if (jobs.isEmpty()) {
+            QUEUES.remove(level);
+        }
+        ModProfiler.end(ModProfiler.Subsystem.BLOCK_BREAKS, start);
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel level) {
+            QUEUES.remove(level);
+        }
+    }
+
+    private static final class Job {
+        private final ServerPlayer player;
+        private final ItemStack tool;
+        private final long[] positions;
+        private final BlockPos dropAt;
+        private final Predicate<BlockState> filter;
+        private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        private int next;
+
+        private Job(ServerPlayer player, ItemStack tool, long[] positions, BlockPos dropAt, Predicate<BlockState> filter) {
+            this.player = player;
+            this.tool = tool;
+            this.positions = positions;
+            this.dropAt = dropAt;
+            this.filter = filter;
+        }
+
+        /**
+         * @return positions used up, at least one unless the job is done
+         */
+        private int run(ServerLevel level, int limit) {
+            int used = 0;
+            while (used < limit && !isDone(level)) {
+                cursor.set(positions[next++]);
+                used++;
+                if (filter.test(level.getBlockState(cursor))) {
+                    BATCH.breakBlock(level, cursor, player, tool);
+                }
+            }
+            if (!BATCH.isEmpty()) {
+                BATCH.flush(level, dropAt);
+            }
+            return used;
+        }
+
+        private boolean isDone(ServerLevel level) {
+            return next == positions.length || player.isRemoved() || player.level() != level
+                    || tool.isEmpty() || player.getMainHandItem() != tool;
+        }
+    }
+}
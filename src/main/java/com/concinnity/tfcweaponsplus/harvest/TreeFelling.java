@@ -0,0 +1,104 @@
+package com.concinnity.tfcweaponsplus.harvest;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.config.ServerConfig;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Fells the whole tree when a player breaks a log with a greataxe, unless they are sneaking. The logs connected to
+ * the broken one, diagonals included, are found with a breadth first search that never goes below the broken log,
+ * more than {@link #MAX_RADIUS} blocks out or past {@link ServerConfig#maxFelledLogs()} logs. The logs are then
+ * handed to the {@link BlockBreakScheduler}, nearest first, and everything drops at the stump.
+ * <p>
+ * Only trees are felled: the logs found must touch leaves, so log cabins and stacked logs break one at a time.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class TreeFelling {
+    private static final int MAX_RADIUS = 12;
+    private static final Predicate<BlockState> LOG = state -> state.is(BlockTags.LOGS);
+
+    private static final LongOpenHashSet VISITED = new LongOpenHashSet();
+    private static final LongArrayFIFOQueue QUEUE = new LongArrayFIFOQueue();
+    private static final LongArrayList LOGS = new LongArrayList();
+
+    private TreeFelling() {}
+
+    /**
+     * Runs last, so a break that protection or other mods cancel never fells anything.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBreak(BlockEvent.BreakEvent event) {
+        if (event.isCanceled() || BlockBreakBatch.isPosting() || !(event.getPlayer() instanceof ServerPlayer player) || player.isShiftKeyDown()
+                || !(event.getLevel() instanceof ServerLevel level) || !LOG.test(event.getState())) {
+            return;
+        }
+        ItemStack tool = player.getMainHandItem();
+        if (tool.getItem() instanceof AnimatedItem item && item.getVariant().item() == WeaponType.GREATAXE) {
+            long[] logs = findTree(level, event.getPos(), ServerConfig.maxFelledLogs());
+            if (logs != null) {
+                BlockBreakScheduler.schedule(player, tool, logs, event.getPos(), LOG);
+            }
+        }
+    }
+
+    /**
+     * @return the logs connected to the one at {@code origin}, not counting it, or null if they touch no leaves
+     */
+    @Nullable
+    public static long[] findTree(ServerLevel level, BlockPos origin, int maxLogs) {
+        VISITED.clear();
+        QUEUE.clear();
+        LOGS.clear();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        boolean leaves = false;
+
+        VISITED.add(origin.asLong());
+        QUEUE.enqueue(origin.asLong());
+        while (!QUEUE.isEmpty() && LOGS.size() < maxLogs) {
+            long current = QUEUE.dequeueLong();
+            int x = BlockPos.getX(current), y = BlockPos.getY(current), z = BlockPos.getZ(current);
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        pos.set(x + dx, y + dy, z + dz);
+                        if (pos.getY() < origin.getY() || Math.abs(pos.getX() - origin.getX()) > MAX_RADIUS
+                                || Math.abs(pos.getZ() - origin.getZ()) > MAX_RADIUS || !VISITED.add(pos.asLong())) {
+                            continue;
+                        }
+                        BlockState state = level.getBlockState(pos);
+                        if (LOG.test(state)) {
+                            if (LOGS.size() < maxLogs) {
+                                LOGS.add(pos.asLong());
+                                QUEUE.enqueue(pos.asLong());
+                            }
+                        } else if (!leaves && state.is(BlockTags.LEAVES)) {
+                            leaves = true;
+                        }
+                    }
+                }
+            }
+        }
+        long[] logs = leaves ? LOGS.toLongArray() : null;
+        VISITED.clear();
+        QUEUE.clear();
+        LOGS.clear();
+        return logs;
+    }
+}
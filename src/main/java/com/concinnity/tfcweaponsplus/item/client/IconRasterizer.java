@@ -0,0 +1,173 @@
+package com.concinnity.tfcweaponsplus.item.client;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.blaze3d.vertex.PoseStack;
+import net.minecraft.client.renderer.block.model.ItemTransform;
+import net.minecraft.world.item.Item;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+
+import java.util.Arrays;
+
+/**
+ * Draws a geo model into a flat inventory icon in software, without a GL context, so that icons can be made at
+ * datagen time. The model is placed the way the item renderer places it in the GUI: the model's {@code gui} display
+ * transform, then GeckoLib's item offset. The result is rendered {@value #SUPERSAMPLE}x larger and filtered down,
+ * with a pixel kept wherever a quarter of it is covered so that thin blades don't vanish.
+ * <p>
+ * Shading approximates the two fixed lights used for 3D items in the GUI.
+ */
+public final class IconRasterizer {
+    private static final int SUPERSAMPLE = 4;
+    /** entityCutoutNoCull discards texels under 0.1 alpha. */
+    private static final int ALPHA_CUTOFF = 26;
+    private static final Vector3f KEY_LIGHT = new Vector3f(-0.4f, 0.6f, 0.7f).normalize();
+    private static final Vector3f FILL_LIGHT = new Vector3f(0.3f, -0.2f, 0.9f).normalize();
+    private static final float AMBIENT = 0.4f;
+    private static final float DIFFUSE = 0.6f;
+
+    private IconRasterizer() {}
+
+    /**
+     * @param item the item the model is drawn for, which decides the tier bones shown
+     * @return a new {@code size * size} image, owned by the caller
+     */
+    public static NativeImage rasterize(BakedGeoModel model, Item item, NativeImage texture, ItemTransform gui, int size) {
+        WeaponMesh mesh = WeaponMesh.bake(model, WeaponMeshCache.tierOf(item));
+
+        PoseStack poseStack = new PoseStack();
+        gui.apply(false, poseStack);
+        poseStack.translate(-0.5f, -0.5f, -0.5f);
+        poseStack.translate(0.5f, 0.51f, 0.5f);
+
+        Raster raster = new Raster(size * SUPERSAMPLE, texture);
+        raster.draw(mesh, poseStack.last().pose(), poseStack.last().normal());
+        return raster.downsample(size);
+    }
+
+    private static final class Raster {
+        private final int size;
+        private final NativeImage texture;
+        private final int[] color;
+        private final float[] depth;
+        private final float[] screen = new float[3 * WeaponMesh.VERTICES_PER_QUAD];
+        private final int[] offsets = new int[WeaponMesh.VERTICES_PER_QUAD];
+
+        Raster(int size, NativeImage texture) {
+            this.size = size;
+            this.texture = texture;
+            this.color = new int[size * size];
+            this.depth = new float[size * size];
+            Arrays.fill(depth, Float.NEGATIVE_INFINITY);
+        }
+
+        void draw(WeaponMesh mesh, Matrix4f pose, Matrix3f normalMatrix) {
+            float[] vertices = mesh.vertices();
+            Vector3f scratch = new Vector3f();
+            for (int quad = 0; quad < vertices.length; quad += WeaponMesh.STRIDE * WeaponMesh.VERTICES_PER_QUAD) {
+                for (int v = 0; v < WeaponMesh.VERTICES_PER_QUAD; v++) {
+                    int i = quad + v * WeaponMesh.STRIDE;
+                    pose.transformPosition(vertices[i], vertices[i + 1], vertices[i + 2], scratch);
+                    // GUI space: the slot spans -0.5..0.5 with y up and the camera looking down -z
+                    screen[v * 3] = (scratch.x + 0.5f) * size;
+                    screen[v * 3 + 1] = (0.5f - scratch.y) * size;
+                    screen[v * 3 + 2] = scratch.z;
+                    offsets[v] = i;
+                }
+                normalMatrix.transform(vertices[quad + 5], vertices[quad + 6], vertices[quad + 7], scratch).normalize();
+                float shade = Math.min(1.0f, AMBIENT + DIFFUSE * (Math.max(0, scratch.dot(KEY_LIGHT)) + Math.max(0, scratch.dot(FILL_LIGHT))));
+
+                triangle(vertices, 0, 1, 2, shade);
+                triangle(vertices, 0, 2, 3, shade);
+            }
+        }
+
+        private void triangle(float[] vertices, int a, int b, int c, float shade) {
+            float ax = screen[a * 3], ay = screen[a * 3 + 1];
+            float bx = screen[b * 3], by = screen[b * 3 + 1];
+            float cx = screen[c * 3], cy = screen[c * 3 + 1];
+            float area = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+            if (Math.abs(area) < 1e-6f) {
+                return;
+            }
+
+            int minX = Math.max(0, (int) Math.floor(Math.min(ax, Math.min(bx, cx))));
+            int maxX = Math.min(size - 1, (int) Math.ceil(Math.max(ax, Math.max(bx, cx))));
+            int minY = Math.max(0, (int) Math.floor(Math.min(ay, Math.min(by, cy))));
+            int maxY = Math.min(size - 1, (int) Math.ceil(Math.max(ay, Math.max(by, cy))));
+            int ia = offsets[a], ib = offsets[b], ic = offsets[c];
+
+            for (int y = minY; y <= maxY; y++) {
+                float py = y + 0.5f;
+                for (int x = minX; x <= maxX; x++) {
+                    float px = x + 0.5f;
+                    float wa = ((bx - px) * (cy - py) - (by - py) * (cx - px)) / area;
+                    float wb = ((cx - px) * (ay - py) - (cy - py) * (ax - px)) / area;
+                    float wc = 1 - wa - wb;
+                    if (wa < 0 || wb < 0 || wc < 0) {
+                        continue;
+                    }
+
+                    float z = wa * screen[a * 3 + 2] + wb * screen[b * 3 + 2] + wc * screen[c * 3 + 2];
+                    int index = y * size + x;
+                    if (z <= depth[index]) {
+                        continue;
+                    }
+
+                    float u = wa * vertices[ia + 3] + wb * vertices[ib + 3] + wc * vertices[ic + 3];
+                    float v = wa * vertices[ia + 4] + wb * vertices[ib + 4] + wc * vertices[ic + 4];
+                    int texel = sample(u, v);
+                    if (texel >>> 24 < ALPHA_CUTOFF) {
+                        continue;
+                    }
+                    depth[index] = z;
+                    color[index] = shade(texel, shade);
+                }
+            }
+        }
+
+        private int sample(float u, float v) {
+            int x = Math.clamp((int) Math.floor(u * texture.getWidth()), 0, texture.getWidth() - 1);
+            int y = Math.clamp((int) Math.floor(v * texture.getHeight()), 0, texture.getHeight() - 1);
+            return texture.getPixelRGBA(x, y);
+        }
+
+        /**
+         * Pixels are ABGR, as {@link NativeImage} keeps them. Alpha is made opaque: what is drawn has passed the cutoff.
+         */
+        private static int shade(int abgr, float shade) {
+            int r = (int) ((abgr & 0xFF) * shade);
+            int g = (int) ((abgr >> 8 & 0xFF) * shade);
+            int b = (int) ((abgr >> 16 & 0xFF) * shade);
+            return 0xFF000000 | b << 16 | g << 8 | r;
+        }
+
+        NativeImage downsample(int target) {
+            NativeImage image = new NativeImage(NativeImage.Format.RGBA, target, target, true);
+            int factor = size / target;
+            int threshold = factor * factor / 4;
+            for (int y = 0; y < target; y++) {
+                for (int x = 0; x < target; x++) {
+                    int covered = 0, r = 0, g = 0, b = 0;
+                    for (int sy = 0; sy < factor; sy++) {
+                        for (int sx = 0; sx < factor; sx++) {
+                            int pixel = color[(y * factor + sy) * size + x * factor + sx];
+                            if (pixel != 0) {
+                                covered++;
+                                r += pixel & 0xFF;
+                                g += pixel >> 8 & 0xFF;
+                                b += pixel >> 16 & 0xFF;
+                            }
+                        }
+                    }
+                    image.setPixelRGBA(x, y, covered >= threshold && covered > 0
+                            ? 0xFF000000 | (b / covered) << 16 | (g / covered) << 8 | r / covered
+                            : 0);
+                }
+            }
+            return image;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.concinnity.tfcweaponsplus.item.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.IItem;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import net.minecraft.client.renderer.texture.MissingTextureAtlasSprite;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.PreparableReloadListener;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.item.Item;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import org.jetbrains.annotations.NotNull;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.loading.FileLoader;
+import software.bernie.geckolib.loading.object.BakedModelFactory;
+import software.bernie.geckolib.loading.object.GeometryTree;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Everything the client derives from our assets, prepared on the reload's background executor during a resource
+ * reload, so the work is scheduled and bounded with the rest of the reload rather than on the common pool.
+ * <ul>
+ *     <li>Geo model and texture of every item, checked against the loaded resource packs. Paths come from the
+ *     {@link ResourceUtils} naming convention. A missing texture falls back to the copper texture of the same item,
+ *     then to the missing texture. A missing model falls back to the default model of the item's category.</li>
+ *     <li>The static {@link WeaponMesh} of every geo model for each metal tier that uses it, parsed and baked in
+ *     parallel, one task per geo model.</li>
+ * </ul>
+ * Applying only publishes the finished, immutable tables. Renderers only read them.
+ */
+public final class ItemAssets implements PreparableReloadListener {
+    private static final String FALLBACK_METAL = "copper";
+    private static final ResourceLocation DEFAULT_WEAPON_MODEL = ResourceUtils.of("geo/item/weapon/sword.geo.json");
+    private static final ResourceLocation DEFAULT_COMPONENT_MODEL = ResourceUtils.of("geo/item/component/hilt.geo.json");
+
+    private static volatile Map<Item, Assets> table = Map.of();
+
+    public static Assets get(AnimatedItem item) {
+        Assets assets = table.get(item);
+        return assets != null ? assets : conventional(item);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> reload(@NotNull PreparationBarrier barrier, @NotNull ResourceManager resourceManager,
+                                                   @NotNull ProfilerFiller preparationsProfiler, @NotNull ProfilerFiller reloadProfiler,
+                                                   @NotNull Executor backgroundExecutor, @NotNull Executor gameExecutor) {
+        return prepare(resourceManager, backgroundExecutor)
+                .thenCompose(barrier::wait)
+                .thenAcceptAsync(ItemAssets::apply, gameExecutor);
+    }
+
+    /**
+     * Resolves the items' assets in one task, then bakes the meshes of each geo model in a task of its own.
+     */
+    private static CompletableFuture<Prepared> prepare(ResourceManager resourceManager, Executor executor) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> ItemRegistry.getRegister().getEntries().stream()
+                        .map(DeferredHolder::get)
+                        .filter(AnimatedItem.class::isInstance)
+                        .map(AnimatedItem.class::cast)
+                        .collect(Collectors.toUnmodifiableMap(item -> (Item) item, item -> resolve(resourceManager, item))), executor)
+                .thenCompose(resolved -> {
+                    Map<ResourceLocation, Set<Integer>> tiersByModel = new HashMap<>();
+                    resolved.forEach((item, assets) -> tiersByModel.computeIfAbsent(assets.model(), model -> new TreeSet<>()).add(WeaponMeshCache.tierOf(item)));
+                    List<CompletableFuture<Map<WeaponMeshCache.ModelTier, WeaponMesh>>> bakes = tiersByModel.entrySet().stream()
+                            .map(entry -> CompletableFuture.supplyAsync(() -> bakeMeshes(resourceManager, entry.getKey(), entry.getValue()), executor))
+                            .toList();
+                    return CompletableFuture.allOf(bakes.toArray(CompletableFuture[]::new)).thenApply(done -> {
+                        Map<WeaponMeshCache.ModelTier, WeaponMesh> meshes = new HashMap<>();
+                        bakes.forEach(bake -> meshes.putAll(bake.join()));
+                        return new Prepared(resolved, Map.copyOf(meshes), tiersByModel.size(), System.nanoTime() - start);
+                    });
+                });
+    }
+
+    private static void apply(Prepared prepared) {
+        long start = System.nanoTime();
+        Map<Item, Assets> resolved = prepared.assets();
+        table = resolved;
+        WeaponMeshCache.publish(resolved, prepared.meshes());
+        long applyMicros = (System.nanoTime() - start) / 1000;
+
+        List<String> missingModels = resolved.entrySet().stream()
+                .filter(entry -> entry.getValue().fallbackModel())
+                .map(entry -> BuiltInRegistries.ITEM.getKey(entry.getKey()).toString())
+                .sorted()
+                .toList();
+        List<String> missingTextures = resolved.entrySet().stream()
+                .filter(entry -> entry.getValue().fallbackTexture())
+                .map(entry -> BuiltInRegistries.ITEM.getKey(entry.getKey()).toString())
+                .sorted()
+                .toList();
+
+        TFCWeaponsPlus.LOGGER.info("Prepared assets for {} items and {} meshes from {} geo models in {} ms, applied in {} µs",
+                resolved.size(), prepared.meshes().size(), prepared.models(), prepared.prepareNanos() / 1_000_000, applyMicros);
+        if (!missingModels.isEmpty() || !missingTextures.isEmpty()) {
+            TFCWeaponsPlus.LOGGER.warn("Using fallbacks for {} missing models {} and {} missing textures {}",
+                    missingModels.size(), missingModels, missingTextures.size(), missingTextures);
+        }
+    }
+
+    private static Map<WeaponMeshCache.ModelTier, WeaponMesh> bakeMeshes(ResourceManager resourceManager, ResourceLocation model, Set<Integer> tiers) {
+        BakedGeoModel bakedModel;
+        try {
+            bakedModel = BakedModelFactory.getForNamespace(model.getNamespace())
+                    .bakeModel(GeometryTree.fromModel(FileLoader.loadModelFile(model, resourceManager)));
+        } catch (RuntimeException e) {
+            TFCWeaponsPlus.LOGGER.warn("Could not bake geo model {}, items using it will not be drawn as static meshes", model, e);
+            return Map.of();
+        }
+
+        Map<WeaponMeshCache.ModelTier, WeaponMesh> meshes = new HashMap<>();
+        for (int tier : tiers) {
+            meshes.put(new WeaponMeshCache.ModelTier(model, tier), WeaponMesh.bake(bakedModel, tier));
+        }
+        return meshes;
+    }
+
+    private static Assets resolve(ResourceManager resourceManager, AnimatedItem item) {
+        ResourceLocation registryName = BuiltInRegistries.ITEM.getKey(item);
+        ResourceLocation model = ResourceUtils.getModelFromRegistryName(registryName);
+        ResourceLocation texture = ResourceUtils.getTextureFromRegistryName(registryName);
+
+        boolean fallbackModel = !exists(resourceManager, model);
+        if (fallbackModel) {
+            model = item.getVariant().item().getCategory() == IItem.ItemCategory.WEAPON ? DEFAULT_WEAPON_MODEL : DEFAULT_COMPONENT_MODEL;
+        }
+
+        boolean fallbackTexture = !exists(resourceManager, texture);
+        if (fallbackTexture) {
+            ResourceLocation copper = ResourceUtils.of(texture.getPath().substring(0, texture.getPath().lastIndexOf('/') + 1) + FALLBACK_METAL + ".png");
+            texture = exists(resourceManager, copper) ? copper : MissingTextureAtlasSprite.getLocation();
+        }
+
+        return new Assets(model, texture, fallbackModel, fallbackTexture);
+    }
+
+    private static Assets conventional(AnimatedItem item) {
+        ResourceLocation registryName = BuiltInRegistries.ITEM.getKey(item);
+        return new Assets(ResourceUtils.getModelFromRegistryName(registryName), ResourceUtils.getTextureFromRegistryName(registryName), false, false);
+    }
+
+    private static boolean exists(ResourceManager resourceManager, ResourceLocation location) {
+        return resourceManager.getResource(location).isPresent();
+    }
+
+    public record Assets(ResourceLocation model, ResourceLocation texture, boolean fallbackModel, boolean fallbackTexture) {}
+
+    record Prepared(Map<Item, Assets> assets, Map<WeaponMeshCache.ModelTier, WeaponMesh> meshes, int models, long prepareNanos) {}
+
+    @EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, bus = EventBusSubscriber.Bus.MOD, value = Dist.CLIENT)
+    public static final class ModBusEvents {
+
+        private ModBusEvents() {}
+
+        @SubscribeEvent
+        public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+            event.registerReloadListener(new ItemAssets());
+        }
+    }
+}
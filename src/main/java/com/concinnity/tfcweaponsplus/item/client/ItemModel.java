@@ -1,27 +1,34 @@
 package com.concinnity.tfcweaponsplus.item.client;
 
 import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
-import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
-import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
+import software.bernie.geckolib.animation.AnimationState;
+import software.bernie.geckolib.constant.DataTickets;
 import software.bernie.geckolib.model.GeoModel;
 
 public class ItemModel extends GeoModel<AnimatedItem> {
 
     @Override
     public ResourceLocation getModelResource(AnimatedItem animatable) {
-        ResourceLocation registryName = BuiltInRegistries.ITEM.getKey(animatable);
-        return ResourceUtils.getModelFromRegistryName(registryName);
+        return ItemAssets.get(animatable).model();
     }
 
     @Override
     public ResourceLocation getTextureResource(AnimatedItem animatable) {
-        ResourceLocation registryName = BuiltInRegistries.ITEM.getKey(animatable);
-        return ResourceUtils.getTextureFromRegistryName(registryName);
+        return ItemAssets.get(animatable).texture();
     }
 
     @Override
     public ResourceLocation getAnimationResource(AnimatedItem animatable) {
         return null;
     }
+
+    /**
+     * Swings are not GeckoLib animations: they follow the holder's vanilla swing, from pre-sampled poses.
+     */
+    @Override
+    public void setCustomAnimations(AnimatedItem animatable, long instanceId, AnimationState<AnimatedItem> animationState) {
+        SwingAnimations.pose(animatable, animationState.getData(DataTickets.ITEMSTACK),
+                animationState.getData(DataTickets.ITEM_RENDER_PERSPECTIVE), getAnimationProcessor());
+    }
 }
@@ -10,21 +10,28 @@ import software.bernie.geckolib.renderer.layer.FastBoneFilterGeoLayer;
 import java.util.List;
 
 public class ItemRenderer extends GeoItemRenderer<AnimatedItem> {
+    static final List<String> TIER_BONES = List.of("1", "2", "3", "1A2", "1A3", "2A3", "1A2A3");
 
     public ItemRenderer(){
         super(new ItemModel());
         
-        addRenderLayer(new FastBoneFilterGeoLayer<>(this, () -> List.of("1", "2", "3", "1A2", "1A3", "2A3", "1A2A3")) {
+        addRenderLayer(new FastBoneFilterGeoLayer<>(this, () -> TIER_BONES) {
             @Override
             protected void checkAndApply(GeoBone bone, AnimatedItem animatable, float partialTick) {
                 String registryName = BuiltInRegistries.ITEM.getKey(animatable).getPath();
                 String metal = registryName.substring(registryName.lastIndexOf('/') + 1);
                 int tier = TFCUtils.getMetalTier(metal);
 
-                // "1A2" contains "1" (Tier 1) and "2" (Tier 2)
-                boolean visible = bone.getName().contains(String.valueOf(tier));
-                bone.setHidden(!visible);
+                bone.setHidden(!isVisibleForTier(bone.getName(), tier));
             }
         });
     }
+
+    /**
+     * Tier bones are named after the tiers they appear in, so "1A2" contains "1" (Tier 1) and "2" (Tier 2).
+     * Bones outside {@link #TIER_BONES} are always visible.
+     */
+    static boolean isVisibleForTier(String boneName, int tier) {
+        return !TIER_BONES.contains(boneName) || boneName.contains(String.valueOf(tier));
+    }
 }
@@ -0,0 +1,190 @@
+package com.concinnity.tfcweaponsplus.item.client;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.Mth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A GeckoLib (Bedrock format) animation evaluated once, at load, into a fixed-rate table of bone transforms. Each
+ * frame holds rotation, position and scale for every animated bone, already in GeckoLib's conventions: rotation in
+ * radians with X and Y mirrored, position with X mirrored. Posing at render time is a lookup and one lerp between
+ * two frames, whatever easing or curve the keyframes use.
+ * <p>
+ * Keyframe values must be numbers; Molang expressions are not supported. Supported easings are {@code linear},
+ * {@code step} and the quad, cubic and sine families; {@code lerp_mode: catmullrom} is honoured.
+ */
+public final class SampledAnimation {
+    static final int SAMPLES_PER_SECOND = 60;
+    /** Rotation, position and scale, three axes each. */
+    static final int CHANNELS = 9;
+
+    private final String[] bones;
+    private final int frames;
+    private final float[] data;
+
+    private SampledAnimation(String[] bones, int frames, float[] data) {
+        this.bones = bones;
+        this.frames = frames;
+        this.data = data;
+    }
+
+    public String[] bones() {
+        return bones;
+    }
+
+    /**
+     * Writes the pose of one bone at {@code progress} (0 to 1 across the animation) into {@code out}, which must
+     * hold {@value #CHANNELS} floats.
+     */
+    public void pose(float progress, int bone, float[] out) {
+        float frame = Mth.clamp(progress, 0, 1) * (frames - 1);
+        int from = Math.min((int) frame, frames - 2);
+        float delta = frame - from;
+        int a = (from * bones.length + bone) * CHANNELS;
+        int b = a + bones.length * CHANNELS;
+        for (int i = 0; i < CHANNELS; i++) {
+            out[i] = data[a + i] + (data[b + i] - data[a + i]) * delta;
+        }
+    }
+
+    static SampledAnimation sample(JsonObject animation) {
+        float length = GsonHelper.getAsFloat(animation, "animation_length");
+        int frames = Math.max(2, Mth.ceil(length * SAMPLES_PER_SECOND) + 1);
+
+        JsonObject boneTracks = GsonHelper.getAsJsonObject(animation, "bones");
+        List<String> names = new ArrayList<>(boneTracks.keySet());
+        List<Track[]> tracks = new ArrayList<>();
+        for (String name : names) {
+            JsonObject bone = GsonHelper.getAsJsonObject(boneTracks, name);
+            tracks.add(new Track[] {
+                    Track.parse(bone.get("rotation"), 0),
+                    Track.parse(bone.get("position"), 0),
+                    Track.parse(bone.get("scale"), 1)
+            });
+        }
+
+        float[] data = new float[frames * names.size() * CHANNELS];
+        float[] value = new float[3];
+        for (int frame = 0; frame < frames; frame++) {
+            float time = length * frame / (frames - 1);
+            for (int bone = 0; bone < names.size(); bone++) {
+                int offset = (frame * names.size() + bone) * CHANNELS;
+                Track[] boneTrack = tracks.get(bone);
+
+                boneTrack[0].evaluate(time, value);
+                data[offset] = -value[0] * Mth.DEG_TO_RAD;
+                data[offset + 1] = -value[1] * Mth.DEG_TO_RAD;
+                data[offset + 2] = value[2] * Mth.DEG_TO_RAD;
+
+                boneTrack[1].evaluate(time, value);
+                data[offset + 3] = -value[0];
+                data[offset + 4] = value[1];
+                data[offset + 5] = value[2];
+
+                boneTrack[2].evaluate(time, value);
+                data[offset + 6] = value[0];
+                data[offset + 7] = value[1];
+                data[offset + 8] = value[2];
+            }
+        }
+        return new SampledAnimation(names.toArray(String[]::new), frames, data);
+    }
+
+    /**
+     * One channel's keyframes. Only used while sampling.
+     */
+    private record Track(float[] times, float[][] values, String[] easings, boolean[] catmullRom) {
+
+        static Track parse(JsonElement json, float rest) {
+            if (json == null) {
+                return new Track(new float[] {0}, new float[][] {{rest, rest, rest}}, new String[] {"linear"}, new boolean[1]);
+            }
+            if (json.isJsonArray() || json.isJsonPrimitive()) {
+                return new Track(new float[] {0}, new float[][] {vector(json)}, new String[] {"linear"}, new boolean[1]);
+            }
+
+            TreeMap<Float, JsonElement> keyframes = new TreeMap<>();
+            json.getAsJsonObject().entrySet().forEach(entry -> keyframes.put(Float.parseFloat(entry.getKey()), entry.getValue()));
+            int count = keyframes.size();
+            float[] times = new float[count];
+            float[][] values = new float[count][];
+            String[] easings = new String[count];
+            boolean[] catmullRom = new boolean[count];
+            int i = 0;
+            for (Map.Entry<Float, JsonElement> entry : keyframes.entrySet()) {
+                times[i] = entry.getKey();
+                JsonElement keyframe = entry.getValue();
+                if (keyframe.isJsonObject()) {
+                    JsonObject object = keyframe.getAsJsonObject();
+                    values[i] = vector(object.has("vector") ? object.get("vector") : object.get("post"));
+                    easings[i] = GsonHelper.getAsString(object, "easing", "linear");
+                    catmullRom[i] = "catmullrom".equals(GsonHelper.getAsString(object, "lerp_mode", "linear"));
+                } else {
+                    values[i] = vector(keyframe);
+                    easings[i] = "linear";
+                }
+                i++;
+            }
+            return new Track(times, values, easings, catmullRom);
+        }
+
+        private static float[] vector(JsonElement json) {
+            if (json.isJsonPrimitive()) {
+                float value = json.getAsFloat();
+                return new float[] {value, value, value};
+            }
+            JsonArray array = json.getAsJsonArray();
+            return new float[] {array.get(0).getAsFloat(), array.get(1).getAsFloat(), array.get(2).getAsFloat()};
+        }
+
+        void evaluate(float time, float[] out) {
+            int next = 0;
+            while (next < times.length && times[next] < time) {
+                next++;
+            }
+            if (next == 0 || next == times.length) {
+                System.arraycopy(values[next == 0 ? 0 : times.length - 1], 0, out, 0, 3);
+                return;
+            }
+
+            int previous = next - 1;
+            // as in GeckoLib, a segment eases with the easing of the keyframe it leads into
+            float t = ease(easings[next], (time - times[previous]) / (times[next] - times[previous]));
+            boolean smooth = catmullRom[previous] || catmullRom[next];
+            for (int axis = 0; axis < 3; axis++) {
+                float p1 = values[previous][axis];
+                float p2 = values[next][axis];
+                if (smooth) {
+                    float p0 = values[Math.max(0, previous - 1)][axis];
+                    float p3 = values[Math.min(times.length - 1, next + 1)][axis];
+                    out[axis] = Mth.catmullrom(t, p0, p1, p2, p3);
+                } else {
+                    out[axis] = Mth.lerp(t, p1, p2);
+                }
+            }
+        }
+
+        private static float ease(String easing, float t) {
+            return switch (easing) {
+                case "step" -> t < 1 ? 0 : 1;
+                case "easeInQuad" -> t * t;
+                case "easeOutQuad" -> 1 - (1 - t) * (1 - t);
+                case "easeInOutQuad" -> t < 0.5f ? 2 * t * t : 1 - (-2 * t + 2) * (-2 * t + 2) / 2;
+                case "easeInCubic" -> t * t * t;
+                case "easeOutCubic" -> 1 - (1 - t) * (1 - t) * (1 - t);
+                case "easeInOutCubic" -> t < 0.5f ? 4 * t * t * t : 1 - (-2 * t + 2) * (-2 * t + 2) * (-2 * t + 2) / 2;
+                case "easeInSine" -> 1 - Mth.cos(t * Mth.HALF_PI);
+                case "easeOutSine" -> Mth.sin(t * Mth.HALF_PI);
+                case "easeInOutSine" -> -(Mth.cos(Mth.PI * t) - 1) / 2;
+                default -> t;
+            };
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.concinnity.tfcweaponsplus.item.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import com.google.gson.JsonObject;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
+import net.neoforged.neoforge.client.event.RenderLivingEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import software.bernie.geckolib.animation.AnimationProcessor;
+import software.bernie.geckolib.cache.object.BoneSnapshot;
+import software.bernie.geckolib.cache.object.GeoBone;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Attack animations for each {@link WeaponType}, from {@code animations/item/weapon/<weapon>.animation.json}, with
+ * an {@code attack.first_person} and an {@code attack.third_person} animation. Both are pre-sampled into
+ * {@link SampledAnimation}s on reload, and played across the vanilla swing of whoever holds the weapon: the whole
+ * animation runs in one swing, so its length only sets the timing between keyframes.
+ * <p>
+ * The holder of a third person weapon is not passed to item renderers, so it is noted from
+ * {@link RenderLivingEvent} while an entity renders. Everything here is used on the render thread only.
+ */
+public final class SwingAnimations extends SimplePreparableReloadListener<Map<WeaponType, SwingAnimations.Swing>> {
+    private static final String FIRST_PERSON = "attack.first_person";
+    private static final String THIRD_PERSON = "attack.third_person";
+
+    private static volatile Map<WeaponType, Swing> swings = Map.of();
+    @Nullable
+    private static LivingEntity renderingEntity;
+    private static float renderingPartialTick;
+    private static final float[] POSE = new float[SampledAnimation.CHANNELS];
+
+    public record Swing(@Nullable SampledAnimation firstPerson, @Nullable SampledAnimation thirdPerson) {}
+
+    @Nullable
+    public static Swing get(WeaponType weapon) {
+        return swings.get(weapon);
+    }
+
+    /**
+     * Poses the animated bones of a weapon for its holder's current swing, or puts them back at rest. Called after
+     * GeckoLib has processed the model's own animations, every frame the weapon renders.
+     */
+    static void pose(AnimatedItem item, ItemStack stack, @Nullable ItemDisplayContext context, AnimationProcessor<?> processor) {
+        if (!(item.getVariant().item() instanceof WeaponType weapon)) {
+            return;
+        }
+        Swing swing = swings.get(weapon);
+        if (swing == null || context == null) {
+            return;
+        }
+
+        boolean firstPerson = context.firstPerson();
+        SampledAnimation animation = firstPerson ? swing.firstPerson() : swing.thirdPerson();
+        if (animation == null) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        float progress = 0;
+        Minecraft minecraft = Minecraft.getInstance();
+        LivingEntity holder = firstPerson ? minecraft.player : renderingEntity;
+        if (holder != null && holder.getMainHandItem() == stack && context != ItemDisplayContext.GUI) {
+            progress = holder.getAttackAnim(firstPerson ? minecraft.getTimer().getGameTimeDeltaPartialTick(false) : renderingPartialTick);
+        }
+
+        String[] bones = animation.bones();
+        for (int i = 0; i < bones.length; i++) {
+            GeoBone bone = processor.getBone(bones[i]);
+            if (bone == null) {
+                continue;
+            }
+            BoneSnapshot rest = bone.getInitialSnapshot();
+            if (progress == 0) {
+                bone.setRotX(rest.getRotX());
+                bone.setRotY(rest.getRotY());
+                bone.setRotZ(rest.getRotZ());
+                bone.setPosX(rest.getOffsetX());
+                bone.setPosY(rest.getOffsetY());
+                bone.setPosZ(rest.getOffsetZ());
+                bone.setScaleX(rest.getScaleX());
+                bone.setScaleY(rest.getScaleY());
+                bone.setScaleZ(rest.getScaleZ());
+                continue;
+            }
+
+            animation.pose(progress, i, POSE);
+            bone.setRotX(rest.getRotX() + POSE[0]);
+            bone.setRotY(rest.getRotY() + POSE[1]);
+            bone.setRotZ(rest.getRotZ() + POSE[2]);
+            bone.setPosX(rest.getOffsetX() + POSE[3]);
+            bone.setPosY(rest.getOffsetY() + POSE[4]);
+            bone.setPosZ(rest.getOffsetZ() + POSE[5]);
+            bone.setScaleX(rest.getScaleX() * POSE[6]);
+            bone.setScaleY(rest.getScaleY() * POSE[7]);
+            bone.setScaleZ(rest.getScaleZ() * POSE[8]);
+        }
+        ModProfiler.end(ModProfiler.Subsystem.SWING_POSES, start);
+    }
+
+    @Override
+    protected @NotNull Map<WeaponType, Swing> prepare(@NotNull ResourceManager resourceManager, @NotNull ProfilerFiller profiler) {
+        Map<WeaponType, Swing> loaded = new EnumMap<>(WeaponType.class);
+        for (WeaponType weapon : WeaponType.values()) {
+            ResourceLocation location = ResourceUtils.of("animations/item/weapon/%s.animation.json".formatted(weapon.getSerializedName()));
+            Optional<Resource> resource = resourceManager.getResource(location);
+            if (resource.isEmpty()) {
+                continue;
+            }
+
+            try (Reader reader = resource.get().openAsReader()) {
+                JsonObject animations = GsonHelper.getAsJsonObject(GsonHelper.parse(reader), "animations");
+                loaded.put(weapon, new Swing(sample(animations, FIRST_PERSON), sample(animations, THIRD_PERSON)));
+            } catch (IOException | RuntimeException e) {
+                TFCWeaponsPlus.LOGGER.warn("Could not read swing animations {}", location, e);
+            }
+        }
+        return loaded;
+    }
+
+    @Nullable
+    private static SampledAnimation sample(JsonObject animations, String name) {
+        return animations.has(name) ? SampledAnimation.sample(GsonHelper.getAsJsonObject(animations, name)) : null;
+    }
+
+    @Override
+    protected void apply(@NotNull Map<WeaponType, Swing> loaded, @NotNull ResourceManager resourceManager, @NotNull ProfilerFiller profiler) {
+        swings = loaded;
+        TFCWeaponsPlus.LOGGER.info("Loaded swing animations for {} weapons", loaded.size());
+    }
+
+    @EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, value = Dist.CLIENT)
+    public static final class ClientEvents {
+
+        private ClientEvents() {}
+
+        @SubscribeEvent
+        public static void onRenderLivingPre(RenderLivingEvent.Pre<?, ?> event) {
+            renderingEntity = event.getEntity();
+            renderingPartialTick = event.getPartialTick();
+        }
+
+        @SubscribeEvent
+        public static void onRenderLivingPost(RenderLivingEvent.Post<?, ?> event) {
+            renderingEntity = null;
+        }
+    }
+
+    @EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, bus = EventBusSubscriber.Bus.MOD, value = Dist.CLIENT)
+    public static final class ModBusEvents {
+
+        private ModBusEvents() {}
+
+        @SubscribeEvent
+        public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+            event.registerReloadListener(new SwingAnimations());
+        }
+    }
+}
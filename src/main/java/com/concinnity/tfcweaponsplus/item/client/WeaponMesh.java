@@ -0,0 +1,107 @@
+package com.concinnity.tfcweaponsplus.item.client;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import software.bernie.geckolib.cache.object.BakedGeoModel;
+import software.bernie.geckolib.cache.object.GeoBone;
+import software.bernie.geckolib.cache.object.GeoCube;
+import software.bernie.geckolib.cache.object.GeoQuad;
+import software.bernie.geckolib.cache.object.GeoVertex;
+import software.bernie.geckolib.util.RenderUtil;
+
+/**
+ * A geo model flattened into a single static vertex array for one metal tier, with every bone and cube transform
+ * already applied. Drawing it is a straight copy into a vertex consumer, without walking the bone hierarchy.
+ */
+public final class WeaponMesh {
+    /** Position, texture coordinates and normal. */
+    static final int STRIDE = 8;
+    static final int VERTICES_PER_QUAD = 4;
+
+    private final float[] vertices;
+
+    private WeaponMesh(float[] vertices) {
+        this.vertices = vertices;
+    }
+
+    public static WeaponMesh bake(BakedGeoModel model, int tier) {
+        FloatArrayList data = new FloatArrayList();
+        PoseStack poseStack = new PoseStack();
+        for (GeoBone bone : model.topLevelBones()) {
+            bakeBone(poseStack, bone, tier, data);
+        }
+        return new WeaponMesh(data.toFloatArray());
+    }
+
+    private static void bakeBone(PoseStack poseStack, GeoBone bone, int tier, FloatArrayList data) {
+        if (bone.isHidden() || !ItemRenderer.isVisibleForTier(bone.getName(), tier)) {
+            return;
+        }
+
+        poseStack.pushPose();
+        RenderUtil.prepMatrixForBone(poseStack, bone);
+
+        for (GeoCube cube : bone.getCubes()) {
+            poseStack.pushPose();
+            RenderUtil.translateToPivotPoint(poseStack, cube);
+            RenderUtil.rotateMatrixAroundCube(poseStack, cube);
+            RenderUtil.translateAwayFromPivotPoint(poseStack, cube);
+
+            Matrix4f pose = poseStack.last().pose();
+            Matrix3f normalMatrix = poseStack.last().normal();
+            for (GeoQuad quad : cube.quads()) {
+                if (quad == null) {
+                    continue;
+                }
+                Vector3f normal = normalMatrix.transform(new Vector3f(quad.normal()));
+                RenderUtil.fixInvertedFlatCube(cube, normal);
+
+                for (GeoVertex vertex : quad.vertices()) {
+                    Vector4f position = pose.transform(new Vector4f(vertex.position().x(), vertex.position().y(), vertex.position().z(), 1.0f));
+                    data.add(position.x());
+                    data.add(position.y());
+                    data.add(position.z());
+                    data.add(vertex.texU());
+                    data.add(vertex.texV());
+                    data.add(normal.x());
+                    data.add(normal.y());
+                    data.add(normal.z());
+                }
+            }
+            poseStack.popPose();
+        }
+
+        for (GeoBone child : bone.getChildBones()) {
+            bakeBone(poseStack, child, tier, data);
+        }
+        poseStack.popPose();
+    }
+
+    float[] vertices() {
+        return vertices;
+    }
+
+    public int vertexCount() {
+        return vertices.length / STRIDE;
+    }
+
+    /**
+     * Emits the mesh with the given instance transform. {@code scratch} is reused for every vertex so that
+     * drawing does not allocate.
+     */
+    public void render(VertexConsumer consumer, Matrix4f pose, Matrix3f normal, int packedLight, int packedOverlay, Vector3f scratch) {
+        for (int i = 0; i < vertices.length; i += STRIDE) {
+            pose.transformPosition(vertices[i], vertices[i + 1], vertices[i + 2], scratch);
+            float x = scratch.x;
+            float y = scratch.y;
+            float z = scratch.z;
+            normal.transform(vertices[i + 5], vertices[i + 6], vertices[i + 7], scratch).normalize();
+            consumer.addVertex(x, y, z, -1, vertices[i + 3], vertices[i + 4], packedOverlay, packedLight, scratch.x, scratch.y, scratch.z);
+        }
+    }
+}
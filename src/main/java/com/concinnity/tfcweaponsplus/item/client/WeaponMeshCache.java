@@ -0,0 +1,59 @@
+package com.concinnity.tfcweaponsplus.item.client;
+
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.utils.TFCUtils;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Static meshes for our items, one per (geo model, metal tier), shared by every item that resolves to the same
+ * (geo model, metal tier, texture) triple. The meshes are baked by {@link ItemAssets} in the background during a
+ * resource reload and published here in one step, so the first frame after a reload draws from a complete table.
+ */
+public final class WeaponMeshCache {
+
+    private static volatile Map<Item, Entry> byItem = Map.of();
+
+    private WeaponMeshCache() {}
+
+    @Nullable
+    public static Entry get(AnimatedItem item) {
+        return byItem.get(item);
+    }
+
+    static int tierOf(Item item) {
+        String path = BuiltInRegistries.ITEM.getKey(item).getPath();
+        return TFCUtils.getMetalTier(path.substring(path.lastIndexOf('/') + 1));
+    }
+
+    /**
+     * Called on the render thread when a reload is applied. Only wraps the baked meshes with their render types.
+     */
+    static void publish(Map<Item, ItemAssets.Assets> assets, Map<ModelTier, WeaponMesh> meshes) {
+        Map<MeshKey, Entry> byKey = new HashMap<>();
+        Map<Item, Entry> entries = new IdentityHashMap<>();
+        assets.forEach((item, itemAssets) -> {
+            int tier = tierOf(item);
+            WeaponMesh mesh = meshes.get(new ModelTier(itemAssets.model(), tier));
+            if (mesh != null) {
+                entries.put(item, byKey.computeIfAbsent(new MeshKey(itemAssets.model(), tier, itemAssets.texture()),
+                        key -> new Entry(mesh, RenderType.entityCutoutNoCull(key.texture()))));
+            }
+        });
+        byItem = Collections.unmodifiableMap(entries);
+    }
+
+    public record Entry(WeaponMesh mesh, RenderType renderType) {}
+
+    record ModelTier(ResourceLocation model, int tier) {}
+
+    private record MeshKey(ResourceLocation model, int tier, ResourceLocation texture) {}
+}
@@ -0,0 +1,171 @@
+package com.concinnity.tfcweaponsplus.item.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.component.Sharpness;
+import com.concinnity.tfcweaponsplus.item.component.SharpnessTracker;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.IItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import net.minecraft.ChatFormatting;
+import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.ItemAttributeModifiers;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.event.entity.player.ItemTooltipEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds weapon stats, metal tier and melt yield to the tooltips of our items, with a comparison against the
+ * weapon in the main hand. Lines are resolved to literal text once per (hovered item, held item) pair and reused
+ * until a resource reload (which includes language changes) or a datapack reload. Sharpness varies per stack, so
+ * its line is cached per sharpness level instead.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, value = Dist.CLIENT)
+public final class WeaponTooltips {
+
+    private static final Map<TooltipKey, List<Component>> CACHE = new HashMap<>();
+    private static final Component[] SHARPNESS_LINES = new Component[Sharpness.MAX + 1];
+
+    private WeaponTooltips() {}
+
+    @SubscribeEvent
+    public static void onItemTooltip(ItemTooltipEvent event) {
+        ItemStack stack = event.getItemStack();
+        if (!(stack.getItem() instanceof AnimatedItem animatedItem)) {
+            return;
+        }
+
+        Player player = event.getEntity();
+        Item held = player != null ? player.getMainHandItem().getItem() : Items.AIR;
+        List<Component> lines = CACHE.computeIfAbsent(new TooltipKey(animatedItem, held),
+                key -> buildLines(animatedItem, held, player));
+
+        List<Component> tooltip = event.getToolTip();
+        int index = Math.min(1, tooltip.size());
+        tooltip.addAll(index, lines);
+        if (SharpnessTracker.hasSharpness(stack)) {
+            tooltip.add(index + lines.size(), sharpnessLine(SharpnessTracker.get(stack)));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        invalidate();
+    }
+
+    public static void invalidate() {
+        CACHE.clear();
+        Arrays.fill(SHARPNESS_LINES, null);
+    }
+
+    private static Component sharpnessLine(Sharpness sharpness) {
+        Component line = SHARPNESS_LINES[sharpness.level()];
+        if (line == null) {
+            line = literal(Component.translatable("tooltip.tfcweaponsplus.sharpness", sharpness.level() * 100 / Sharpness.MAX),
+                    sharpness.level() > Sharpness.MAX / 4 ? ChatFormatting.GRAY : ChatFormatting.RED);
+            SHARPNESS_LINES[sharpness.level()] = line;
+        }
+        return line;
+    }
+
+    private static List<Component> buildLines(AnimatedItem item, Item held, @Nullable Player player) {
+        ResourceUtils.ItemVariant variant = item.getVariant();
+        List<Component> lines = new ArrayList<>();
+
+        if (variant.item() instanceof WeaponType weapon) {
+            lines.add(literal(Component.translatable("tooltip.tfcweaponsplus.weapon",
+                    Component.translatable("tooltip.tfcweaponsplus.damage_type." + weapon.getDamageType().name().toLowerCase()),
+                    Component.translatable("tooltip.tfcweaponsplus.weapon_category." + weapon.getWeaponCategory().name().toLowerCase())), ChatFormatting.GRAY));
+
+            ItemStack heldStack = held != item && hasMainHandDamage(held) ? held.getDefaultInstance() : ItemStack.EMPTY;
+            ItemStack ownStack = item.getDefaultInstance();
+
+            lines.add(statLine("damage", Attributes.ATTACK_DAMAGE, ownStack, heldStack, player));
+            lines.add(statLine("speed", Attributes.ATTACK_SPEED, ownStack, heldStack, player));
+            lines.add(statLine("reach", Attributes.ENTITY_INTERACTION_RANGE, ownStack, heldStack, player));
+        }
+
+        variant.metal().ifPresent(metal -> lines.add(literal(Component.translatable("tooltip.tfcweaponsplus.metal",
+                Component.translatable("metal.tfcweaponsplus." + metal.getSerializedName()), metal.tier()), ChatFormatting.GRAY)));
+
+        IItem iItem = variant.item();
+        if (iItem.getFluidAmount() > 0) {
+            lines.add(literal(Component.translatable("tooltip.tfcweaponsplus.fluid_amount", iItem.getFluidAmount()), ChatFormatting.GRAY));
+        }
+
+        return List.copyOf(lines);
+    }
+
+    private static Component statLine(String name, Holder<Attribute> attribute, ItemStack own, ItemStack held, @Nullable Player player) {
+        double base = player != null ? player.getAttributeBaseValue(attribute) : attribute.value().getDefaultValue();
+        double value = base + mainHandBonus(own, attribute);
+
+        MutableComponent line = literal(Component.translatable("tooltip.tfcweaponsplus.stat." + name,
+                ItemAttributeModifiers.ATTRIBUTE_MODIFIER_FORMAT.format(value)), ChatFormatting.DARK_GREEN);
+
+        if (!held.isEmpty()) {
+            double delta = value - (base + mainHandBonus(held, attribute));
+            if (Math.abs(delta) > 1.0E-4) {
+                String sign = delta > 0 ? "+" : "-";
+                line.append(Component.literal(" (%s%s)".formatted(sign, ItemAttributeModifiers.ATTRIBUTE_MODIFIER_FORMAT.format(Math.abs(delta))))
+                        .withStyle(delta > 0 ? ChatFormatting.GREEN : ChatFormatting.RED));
+            }
+        }
+        return line;
+    }
+
+    private static double mainHandBonus(ItemStack stack, Holder<Attribute> attribute) {
+        double bonus = 0;
+        for (ItemAttributeModifiers.Entry entry : stack.getOrDefault(DataComponents.ATTRIBUTE_MODIFIERS, ItemAttributeModifiers.EMPTY).modifiers()) {
+            if (entry.attribute().equals(attribute)
+                    && entry.slot().test(EquipmentSlot.MAINHAND)
+                    && entry.modifier().operation() == AttributeModifier.Operation.ADD_VALUE) {
+                bonus += entry.modifier().amount();
+            }
+        }
+        return bonus;
+    }
+
+    private static boolean hasMainHandDamage(Item item) {
+        return mainHandBonus(item.getDefaultInstance(), Attributes.ATTACK_DAMAGE) != 0;
+    }
+
+    private static MutableComponent literal(Component translated, ChatFormatting style) {
+        return Component.literal(translated.getString()).withStyle(style);
+    }
+
+    private record TooltipKey(Item item, Item held) {}
+
+    @EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, bus = EventBusSubscriber.Bus.MOD, value = Dist.CLIENT)
+    public static final class ModBusEvents {
+
+        private ModBusEvents() {}
+
+        @SubscribeEvent
+        public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+            event.registerReloadListener((ResourceManagerReloadListener) resourceManager -> invalidate());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.concinnity.tfcweaponsplus.item.component;
+
+import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.util.Mth;
+
+/**
+ * Edge sharpness of a weapon, from {@link #MAX} (freshly honed) down to 0. Stored and synced as a single byte, and
+ * every level is interned so reading or wearing the edge never allocates. A weapon without the component is at
+ * full sharpness.
+ */
+public record Sharpness(int level) {
+    public static final int MAX = 100;
+    private static final float MIN_DAMAGE_MULTIPLIER = 0.5f;
+    private static final Sharpness[] VALUES = new Sharpness[MAX + 1];
+
+    static {
+        for (int i = 0; i <= MAX; i++) {
+            VALUES[i] = new Sharpness(i);
+        }
+    }
+
+    public static final Sharpness FULL = VALUES[MAX];
+
+    public static final Codec<Sharpness> CODEC = Codec.BYTE.xmap(b -> of(b), sharpness -> (byte) sharpness.level);
+    public static final StreamCodec<ByteBuf, Sharpness> STREAM_CODEC = ByteBufCodecs.BYTE.map(b -> of(b), sharpness -> (byte) sharpness.level);
+
+    public static Sharpness of(int level) {
+        return VALUES[Mth.clamp(level, 0, MAX)];
+    }
+
+    public Sharpness wear(int amount) {
+        return of(level - amount);
+    }
+
+    public Sharpness hone(int amount) {
+        return of(level + amount);
+    }
+
+    public boolean isFull() {
+        return level == MAX;
+    }
+
+    /**
+     * Damage dealt scales linearly from full damage at {@link #MAX} down to half damage on a fully dulled edge.
+     */
+    public float damageMultiplier() {
+        return MIN_DAMAGE_MULTIPLIER + (1 - MIN_DAMAGE_MULTIPLIER) * level / MAX;
+    }
+}
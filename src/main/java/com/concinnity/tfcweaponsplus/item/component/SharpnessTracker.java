@@ -0,0 +1,123 @@
+package com.concinnity.tfcweaponsplus.item.component;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.IItem;
+import com.concinnity.tfcweaponsplus.network.SharpnessPayload;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import com.concinnity.tfcweaponsplus.registration.DataComponentRegistry;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.living.LivingIncomingDamageEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Scales melee damage by the weapon's {@link Sharpness} and wears the edge on every hit.
+ * <p>
+ * Sharpness changes on nearly every hit, so it is not left to the container sync, which would resend the whole
+ * stack. The menus' remote copies of the slot are updated together with the stack so that no slot update goes
+ * out, and changed slots are collected per player and sent as one {@link SharpnessPayload} per slot at the end of
+ * the server tick.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class SharpnessTracker {
+    private static final int WEAR_PER_HIT = 1;
+
+    private static final Map<ServerPlayer, long[]> DIRTY_SLOTS = new IdentityHashMap<>();
+    private static long payloadsSent;
+
+    private SharpnessTracker() {}
+
+    public static Sharpness get(ItemStack stack) {
+        return stack.getOrDefault(DataComponentRegistry.SHARPNESS.get(), Sharpness.FULL);
+    }
+
+    public static boolean hasSharpness(ItemStack stack) {
+        return stack.getItem() instanceof AnimatedItem item
+                && item.getVariant().item().getCategory() == IItem.ItemCategory.WEAPON;
+    }
+
+    /**
+     * Sets the sharpness of the stack in the given inventory slot of {@code player}, to be synced at the end of
+     * the tick. A full edge removes the component so honed weapons stack and compare like new ones.
+     */
+    public static void set(ServerPlayer player, int slot, ItemStack stack, Sharpness sharpness) {
+        if (get(stack) == sharpness) {
+            return;
+        }
+        if (sharpness.isFull()) {
+            stack.remove(DataComponentRegistry.SHARPNESS.get());
+        } else {
+            stack.set(DataComponentRegistry.SHARPNESS.get(), sharpness);
+        }
+
+        markRemoteSynced(player.inventoryMenu, player, slot, stack);
+        if (player.containerMenu != player.inventoryMenu) {
+            markRemoteSynced(player.containerMenu, player, slot, stack);
+        }
+        DIRTY_SLOTS.computeIfAbsent(player, p -> new long[1])[0] |= 1L << slot;
+    }
+
+    public static long getPayloadsSent() {
+        return payloadsSent;
+    }
+
+    private static void markRemoteSynced(AbstractContainerMenu menu, ServerPlayer player, int slot, ItemStack stack) {
+        menu.findSlot(player.getInventory(), slot).ifPresent(index -> menu.setRemoteSlot(index, stack));
+    }
+
+    @SubscribeEvent
+    public static void onLivingIncomingDamage(LivingIncomingDamageEvent event) {
+        long start = ModProfiler.begin();
+        applySharpness(event);
+        ModProfiler.end(ModProfiler.Subsystem.COMBAT, start);
+    }
+
+    private static void applySharpness(LivingIncomingDamageEvent event) {
+        DamageSource source = event.getSource();
+        if (!(source.getEntity() instanceof ServerPlayer player) || source.getDirectEntity() != player) {
+            return;
+        }
+
+        ItemStack stack = player.getMainHandItem();
+        if (!hasSharpness(stack)) {
+            return;
+        }
+
+        Sharpness sharpness = get(stack);
+        event.setAmount(event.getAmount() * sharpness.damageMultiplier());
+        if (!player.getAbilities().instabuild) {
+            set(player, player.getInventory().selected, stack, sharpness.wear(WEAR_PER_HIT));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTickPost(ServerTickEvent.Post event) {
+        if (DIRTY_SLOTS.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<ServerPlayer, long[]> entry : DIRTY_SLOTS.entrySet()) {
+            ServerPlayer player = entry.getKey();
+            if (player.hasDisconnected()) {
+                continue;
+            }
+            long dirty = entry.getValue()[0];
+            while (dirty != 0) {
+                int slot = Long.numberOfTrailingZeros(dirty);
+                dirty &= dirty - 1;
+                PacketDistributor.sendToPlayer(player, new SharpnessPayload((byte) slot, get(player.getInventory().getItem(slot))));
+                payloadsSent++;
+            }
+        }
+        DIRTY_SLOTS.clear();
+    }
+}
@@ -0,0 +1,131 @@
+package com.concinnity.tfcweaponsplus.item.component;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.EquipmentSlotGroup;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.ItemAttributeModifiers;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.ItemAttributeModifierEvent;
+import net.neoforged.neoforge.event.entity.living.LivingEquipmentChangeEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Main hand damage, speed and reach of our weapons. They are carried in the items' attribute modifier component
+ * like any other item's, so tooltips, mobs choosing their gear and other mods all see them, and vanilla applies
+ * them. Vanilla removes the old weapon's modifiers and adds the new one's on every hotbar change though, which marks
+ * the synced attributes for an update even when the next weapon has the same values. When a main hand change is
+ * seen, the attributes both weapons modify the same way are noted, and their modifiers are left out of the two
+ * {@link ItemAttributeModifierEvent}s vanilla fires for that change as it removes and adds them, so the modifier
+ * already on the entity stays and the attribute is never touched.
+ * <p>
+ * Only the two stacks of the change being handled are matched, by identity, so tooltips and anything else asking
+ * for the same items' modifiers see them all.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class WeaponAttributes {
+    public static final List<Holder<Attribute>> ATTRIBUTES = List.of(Attributes.ATTACK_DAMAGE, Attributes.ATTACK_SPEED, Attributes.ENTITY_INTERACTION_RANGE);
+
+    private static final AttributeModifier[][] MODIFIERS = new AttributeModifier[ItemVariants.COUNT][];
+
+    @Nullable
+    private static Swap pending;
+
+    private WeaponAttributes() {}
+
+    /**
+     * Sets the modifiers of a variant, one per {@link #ATTRIBUTES} entry, and builds its component from them.
+     */
+    public static ItemAttributeModifiers register(int ordinal, AttributeModifier... modifiers) {
+        MODIFIERS[ordinal] = modifiers;
+        ItemAttributeModifiers.Builder builder = ItemAttributeModifiers.builder();
+        for (int i = 0; i < ATTRIBUTES.size(); i++) {
+            builder.add(ATTRIBUTES.get(i), modifiers[i], EquipmentSlotGroup.MAINHAND);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the modifiers the variant of the stack was registered with, whatever its component now says
+     */
+    @Nullable
+    public static AttributeModifier[] get(ItemStack stack) {
+        if (!(stack.getItem() instanceof AnimatedItem item)) {
+            return null;
+        }
+        int ordinal = item.getVariant().ordinal();
+        return ordinal >= 0 ? MODIFIERS[ordinal] : null;
+    }
+
+    /**
+     * Posted by vanilla just before it removes the old stack's modifiers. The new one's are added once every slot's
+     * change has been posted, so only another main hand change replaces the pending swap.
+     */
+    @SubscribeEvent
+    public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (event.getSlot() != EquipmentSlot.MAINHAND || event.getEntity().level().isClientSide) {
+            return;
+        }
+        pending = null;
+        AttributeModifier[] from = get(event.getFrom());
+        AttributeModifier[] to = get(event.getTo());
+        if (from == null || to == null || hasOwnModifiers(event.getFrom()) || hasOwnModifiers(event.getTo())) {
+            return;
+        }
+
+        long start = ModProfiler.begin();
+        boolean[] unchanged = new boolean[ATTRIBUTES.size()];
+        boolean any = false;
+        for (int i = 0; i < ATTRIBUTES.size(); i++) {
+            unchanged[i] = from[i].equals(to[i]);
+            any |= unchanged[i];
+        }
+        if (any) {
+            pending = new Swap(event.getFrom(), event.getTo(), to, unchanged);
+        }
+        ModProfiler.end(ModProfiler.Subsystem.ATTRIBUTES, start);
+    }
+
+    /**
+     * Runs last, once every other listener has settled the stack's modifiers. The new stack's modifiers are asked
+     * for after the old one's, so the change is done with once they are.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onItemAttributeModifiers(ItemAttributeModifierEvent event) {
+        Swap swap = pending;
+        ItemStack stack = event.getItemStack();
+        if (swap == null || stack != swap.from() && stack != swap.to()) {
+            return;
+        }
+        for (int i = 0; i < ATTRIBUTES.size(); i++) {
+            if (swap.unchanged()[i]) {
+                event.removeModifier(ATTRIBUTES.get(i), swap.modifiers()[i].id());
+            }
+        }
+        if (stack == swap.to()) {
+            pending = null;
+        }
+    }
+
+    /**
+     * Stacks may carry a component of their own in place of the variant's, in which case the registered modifiers
+     * say nothing about what vanilla will apply.
+     */
+    private static boolean hasOwnModifiers(ItemStack stack) {
+        return stack.getComponentsPatch().get(DataComponents.ATTRIBUTE_MODIFIERS) != null;
+    }
+
+    private record Swap(ItemStack from, ItemStack to, AttributeModifier[] modifiers, boolean[] unchanged) {}
+}
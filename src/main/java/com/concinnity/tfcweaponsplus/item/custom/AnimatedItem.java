@@ -1,8 +1,30 @@
 package com.concinnity.tfcweaponsplus.item.custom;
 
+import com.concinnity.tfcweaponsplus.combat.GuardState;
+import com.concinnity.tfcweaponsplus.combat.GuardTracker;
+import com.concinnity.tfcweaponsplus.entity.WeaponItemEntity;
 import com.concinnity.tfcweaponsplus.item.client.ItemRenderer;
+import com.concinnity.tfcweaponsplus.item.component.Sharpness;
+import com.concinnity.tfcweaponsplus.item.component.SharpnessTracker;
+import com.concinnity.tfcweaponsplus.profiling.WeaponTelemetry;
+import com.concinnity.tfcweaponsplus.utils.ModTags;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
 import net.minecraft.client.renderer.BlockEntityWithoutLevelRenderer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.InteractionResultHolder;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.UseAnim;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animatable.GeoItem;
 import software.bernie.geckolib.animatable.client.GeoRenderProvider;
 import software.bernie.geckolib.animatable.instance.AnimatableInstanceCache;
@@ -12,10 +34,91 @@ import software.bernie.geckolib.animation.AnimatableManager;
 import java.util.function.Consumer;
 
 public class AnimatedItem extends Item implements GeoItem {
+    private static final int SHARPNESS_PER_HONE = 25;
+    private static final int HONE_COOLDOWN = 10;
+    private static final int GUARD_DURATION = 72000;
+
     private final AnimatableInstanceCache cache = new SingletonAnimatableInstanceCache(this);
+    private final ResourceUtils.ItemVariant variant;
 
-    public AnimatedItem(Properties properties) {
+    public AnimatedItem(Properties properties, ResourceUtils.ItemVariant variant) {
         super(properties);
+        this.variant = variant;
+    }
+
+    public ResourceUtils.ItemVariant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Hones the edge of a weapon in the main hand with a whetstone held in the off hand. Otherwise, swords raise
+     * their guard for as long as the item is used.
+     */
+    @Override
+    public @NotNull InteractionResultHolder<ItemStack> use(@NotNull Level level, @NotNull Player player, @NotNull InteractionHand hand) {
+        ItemStack stack = player.getItemInHand(hand);
+        ItemStack whetstone = player.getOffhandItem();
+        if (hand != InteractionHand.MAIN_HAND || !whetstone.is(ModTags.WHETSTONES)
+                || !SharpnessTracker.hasSharpness(stack) || SharpnessTracker.get(stack).isFull()) {
+            return hand == InteractionHand.MAIN_HAND && GuardTracker.canGuard(stack) ? raiseGuard(player, hand, stack) : super.use(level, player, hand);
+        }
+
+        if (player instanceof ServerPlayer serverPlayer) {
+            Sharpness honed = SharpnessTracker.get(stack).hone(SHARPNESS_PER_HONE);
+            SharpnessTracker.set(serverPlayer, serverPlayer.getInventory().selected, stack, honed);
+            if (whetstone.isDamageableItem()) {
+                whetstone.hurtAndBreak(1, serverPlayer, EquipmentSlot.OFFHAND);
+            } else {
+                whetstone.consume(1, serverPlayer);
+            }
+            level.playSound(null, player.blockPosition(), SoundEvents.GRINDSTONE_USE, SoundSource.PLAYERS, 0.6f, 1.4f);
+        }
+        player.getCooldowns().addCooldown(this, HONE_COOLDOWN);
+        return InteractionResultHolder.sidedSuccess(stack, level.isClientSide);
+    }
+
+    private InteractionResultHolder<ItemStack> raiseGuard(Player player, InteractionHand hand, ItemStack stack) {
+        if (GuardTracker.get(player).state() == GuardState.BROKEN
+                || player instanceof ServerPlayer serverPlayer && !GuardTracker.raise(serverPlayer, stack)) {
+            return InteractionResultHolder.fail(stack);
+        }
+        player.startUsingItem(hand);
+        return InteractionResultHolder.consume(stack);
+    }
+
+    @Override
+    public @NotNull UseAnim getUseAnimation(@NotNull ItemStack stack) {
+        return GuardTracker.canGuard(stack) ? UseAnim.BLOCK : super.getUseAnimation(stack);
+    }
+
+    @Override
+    public int getUseDuration(@NotNull ItemStack stack, @NotNull LivingEntity entity) {
+        return GuardTracker.canGuard(stack) ? GUARD_DURATION : super.getUseDuration(stack, entity);
+    }
+
+    @Override
+    public void onStopUsing(@NotNull ItemStack stack, @NotNull LivingEntity entity, int count) {
+        if (entity instanceof ServerPlayer player) {
+            GuardTracker.lower(player);
+        }
+    }
+
+    @Override
+    public <T extends LivingEntity> int damageItem(@NotNull ItemStack stack, int amount, @Nullable T entity, @NotNull Consumer<Item> onBroken) {
+        if (entity instanceof ServerPlayer) {
+            WeaponTelemetry.onDurabilitySpent(this, amount);
+        }
+        return super.damageItem(stack, amount, entity, onBroken);
+    }
+
+    @Override
+    public boolean hasCustomEntity(@NotNull ItemStack stack) {
+        return true;
+    }
+
+    @Override
+    public @Nullable Entity createEntity(@NotNull Level level, @NotNull Entity location, @NotNull ItemStack stack) {
+        return new WeaponItemEntity(level, location, stack);
     }
 
     @Override
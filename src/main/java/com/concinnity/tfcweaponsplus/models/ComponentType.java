@@ -1,29 +1,36 @@
 package com.concinnity.tfcweaponsplus.models;
 
+import com.google.gson.JsonObject;
 import net.dries007.tfc.common.component.size.Size;
 import net.dries007.tfc.common.component.size.Weight;
+import net.minecraft.util.GsonHelper;
 
+/**
+ * Weapon components, with their stats read from the {@code component} list of {@code tfcweaponsplus/item_types.json}.
+ */
 public enum ComponentType implements IItem {
-    HILT(Size.SMALL, Weight.LIGHT, 100),
-    POMMEL(Size.SMALL, Weight.LIGHT, 100),
-    GUARD(Size.SMALL, Weight.LIGHT, 100),
-    GRIP(Size.SMALL, Weight.LIGHT, 0),
-    GREATSWORD_BLADE(Size.VERY_LARGE, Weight.VERY_HEAVY, 400),
-    LONGSWORD_BLADE(Size.LARGE, Weight.HEAVY, 200),
-    GREATAXE_HEAD(Size.VERY_LARGE, Weight.VERY_HEAVY, 200),
-    GREATHAMMER_HEAD(Size.VERY_LARGE, Weight.VERY_HEAVY, 400),
-    SWORD_BLADE(Size.LARGE, Weight.MEDIUM, 100);
-   // SHORTSWORD_BLADE(Size.LARGE, Weight.MEDIUM, 100),
+    HILT,
+    POMMEL,
+    GUARD,
+    GRIP,
+    GREATSWORD_BLADE,
+    LONGSWORD_BLADE,
+    GREATAXE_HEAD,
+    GREATHAMMER_HEAD,
+    SWORD_BLADE;
+    // Planned, with the stats they would be listed with:
+    // SHORTSWORD_BLADE(Size.LARGE, Weight.MEDIUM, 100),
     //MORNINGSTAR_HEAD(Size.LARGE, Weight.HEAVY, 100);
 
     private final Size size;
     private final Weight weight;
     private final int fluidAmount;
 
-    ComponentType(Size size, Weight weight, int fluidAmount) {
-        this.size = size;
-        this.weight = weight;
-        this.fluidAmount = fluidAmount;
+    ComponentType() {
+        JsonObject data = ItemTypeData.get("component", this);
+        this.size = ItemTypeData.getAsEnum(data, "size", Size.class);
+        this.weight = ItemTypeData.getAsEnum(data, "weight", Weight.class);
+        this.fluidAmount = GsonHelper.getAsInt(data, "fluid_amount");
     }
 
     @Override
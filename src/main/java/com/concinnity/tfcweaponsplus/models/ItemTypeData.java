@@ -0,0 +1,53 @@
+package com.concinnity.tfcweaponsplus.models;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.util.GsonHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The stats of each {@link WeaponType} and {@link ComponentType}, read from {@value #PATH}. The generateItemVariants
+ * Gradle task reads the same file for the item types and their order, so adding a type there without its enum
+ * constant fails to compile, and an enum constant missing from it fails when the enum loads.
+ */
+final class ItemTypeData {
+    static final String PATH = "/tfcweaponsplus/item_types.json";
+
+    private static final JsonObject TYPES = load();
+
+    private ItemTypeData() {}
+
+    /**
+     * @return the entry of the type in its category's list
+     */
+    static JsonObject get(String category, Enum<?> type) {
+        String name = type.name().toLowerCase();
+        for (JsonElement element : GsonHelper.getAsJsonArray(TYPES, category)) {
+            JsonObject entry = element.getAsJsonObject();
+            if (GsonHelper.getAsString(entry, "name").equals(name)) {
+                return entry;
+            }
+        }
+        throw new IllegalStateException("No " + category + " named " + name + " in " + PATH);
+    }
+
+    static <E extends Enum<E>> E getAsEnum(JsonObject entry, String key, Class<E> type) {
+        return Enum.valueOf(type, GsonHelper.getAsString(entry, key).toUpperCase());
+    }
+
+    private static JsonObject load() {
+        try (InputStream stream = ItemTypeData.class.getResourceAsStream(PATH)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing " + PATH);
+            }
+            return GsonHelper.parse(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.concinnity.tfcweaponsplus.models;
 
+import com.google.gson.JsonObject;
 import net.dries007.tfc.common.component.size.Size;
 import net.dries007.tfc.common.component.size.Weight;
+import net.minecraft.util.GsonHelper;
 
+import java.util.List;
+
+/**
+ * Weapon types, with their stats read from the {@code weapon} list of {@code tfcweaponsplus/item_types.json}.
+ */
 public enum WeaponType implements IItem {
-    GREATSWORD(Size.VERY_LARGE, Weight.VERY_HEAVY, -2.8, 10.0, 3.0, WeaponCategory.SWORD, DamageType.SLASHING, 400),
-    GREATAXE(Size.VERY_LARGE, Weight.VERY_HEAVY, -2.7, 12.0, 2.5, WeaponCategory.AXE, DamageType.SLASHING, 400),
-    GREATHAMMER(Size.VERY_LARGE, Weight.VERY_HEAVY, -2.9, 13.0, 2.5, WeaponCategory.HAMMER, DamageType.CRUSHING, 400),
-    LONGSWORD(Size.LARGE, Weight.HEAVY, -2.4, 7.0, 2.5, WeaponCategory.SWORD, DamageType.SLASHING, 200),
-    SWORD(Size.LARGE, Weight.MEDIUM, -2.0, 5.0, 2.0, WeaponCategory.SWORD, DamageType.SLASHING, 100);
+    GREATSWORD,
+    GREATAXE,
+    GREATHAMMER,
+    LONGSWORD,
+    SWORD;
 
+    // Planned, with the stats they would be listed with:
     // SHORTSWORD(Size.LARGE, Weight.MEDIUM, -2.0, 5.0, 2.0, WeaponCategory.SWORD, DamageType.SLASHING, 100),
     // MORNINGSTAR(Size.LARGE, Weight.HEAVY, -2.6, 8.0, 2.5, WeaponCategory.MACE, DamageType.CRUSHING, 100),
     // QUARTERSTAFF(Size.LARGE, Weight.MEDIUM, -2.0, 4.0, 3.0, WeaponCategory.STAFF, DamageType.PIERCING, 200),
@@ -23,15 +31,16 @@ public enum WeaponType implements IItem {
     private final DamageType damageType;
     private final int fluidAmount;
 
-    WeaponType(Size size, Weight weight, double attackSpeed, double damage, double reach, WeaponCategory category, DamageType damageType, int fluidAmount) {
-        this.size = size;
-        this.weight = weight;
-        this.baseAttackSpeed = attackSpeed;
-        this.baseDamage = damage;
-        this.baseReach = reach;
-        this.category = category;
-        this.damageType = damageType;
-        this.fluidAmount = fluidAmount;
+    WeaponType() {
+        JsonObject data = ItemTypeData.get("weapon", this);
+        this.size = ItemTypeData.getAsEnum(data, "size", Size.class);
+        this.weight = ItemTypeData.getAsEnum(data, "weight", Weight.class);
+        this.baseAttackSpeed = GsonHelper.getAsDouble(data, "attack_speed");
+        this.baseDamage = GsonHelper.getAsDouble(data, "damage");
+        this.baseReach = GsonHelper.getAsDouble(data, "reach");
+        this.category = ItemTypeData.getAsEnum(data, "category", WeaponCategory.class);
+        this.damageType = ItemTypeData.getAsEnum(data, "damage_type", DamageType.class);
+        this.fluidAmount = GsonHelper.getAsInt(data, "fluid_amount");
     }
 
     public enum WeaponCategory {
@@ -86,4 +95,17 @@ public enum WeaponType implements IItem {
     public int getFluidAmount() {
         return fluidAmount;
     }
+
+    /**
+     * Components used by any of this weapon's assembly recipes, including the hilt parts for bladed weapons.
+     */
+    public List<ComponentType> getComponents() {
+        return switch (this) {
+            case GREATSWORD -> List.of(ComponentType.GREATSWORD_BLADE, ComponentType.HILT, ComponentType.GUARD, ComponentType.POMMEL, ComponentType.GRIP);
+            case LONGSWORD -> List.of(ComponentType.LONGSWORD_BLADE, ComponentType.HILT, ComponentType.GUARD, ComponentType.POMMEL, ComponentType.GRIP);
+            case SWORD -> List.of(ComponentType.SWORD_BLADE, ComponentType.HILT, ComponentType.GUARD, ComponentType.POMMEL, ComponentType.GRIP);
+            case GREATAXE -> List.of(ComponentType.GREATAXE_HEAD, ComponentType.POMMEL, ComponentType.GRIP);
+            case GREATHAMMER -> List.of(ComponentType.GREATHAMMER_HEAD, ComponentType.POMMEL, ComponentType.GRIP);
+        };
+    }
 }
\ No newline at end of file
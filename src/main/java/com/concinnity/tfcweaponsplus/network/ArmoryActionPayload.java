@@ -0,0 +1,38 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.block.menu.ArmoryMenu;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A click in an armory screen: turn to a page, or take from an entry on the current page.
+ */
+public record ArmoryActionPayload(int containerId, byte action, int value) implements CustomPacketPayload {
+    public static final byte PAGE = 0;
+    public static final byte TAKE_ONE = 1;
+    public static final byte TAKE_STACK = 2;
+
+    public static final Type<ArmoryActionPayload> TYPE = new Type<>(ResourceUtils.of("armory_action"));
+
+    public static final StreamCodec<ByteBuf, ArmoryActionPayload> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.VAR_INT, ArmoryActionPayload::containerId,
+            ByteBufCodecs.BYTE, ArmoryActionPayload::action,
+            ByteBufCodecs.VAR_INT, ArmoryActionPayload::value,
+            ArmoryActionPayload::new);
+
+    public static void handle(ArmoryActionPayload payload, IPayloadContext context) {
+        if (context.player().containerMenu instanceof ArmoryMenu menu && menu.containerId == payload.containerId) {
+            menu.handle(context.player(), payload.action, payload.value);
+        }
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,61 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.block.menu.ArmoryMenu;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * The page of an armory an open {@link ArmoryMenu} is showing. Stored variants travel as an ordinal and a count,
+ * a few bytes each, and only stacks with their own components are sent in full.
+ */
+public record ArmoryPagePayload(int containerId, int page, int pages, int[] ordinals, int[] counts, List<ItemStack> extras) implements CustomPacketPayload {
+    public static final Type<ArmoryPagePayload> TYPE = new Type<>(ResourceUtils.of("armory_page"));
+
+    private static final StreamCodec<RegistryFriendlyByteBuf, List<ItemStack>> EXTRAS_CODEC = ItemStack.STREAM_CODEC.apply(ByteBufCodecs.list(ArmoryMenu.PAGE_SIZE));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, ArmoryPagePayload> STREAM_CODEC = StreamCodec.ofMember(ArmoryPagePayload::write, ArmoryPagePayload::read);
+
+    private static ArmoryPagePayload read(RegistryFriendlyByteBuf buffer) {
+        int containerId = buffer.readVarInt();
+        int page = buffer.readVarInt();
+        int pages = buffer.readVarInt();
+        int[] ordinals = new int[Math.min(buffer.readVarInt(), ArmoryMenu.PAGE_SIZE)];
+        int[] counts = new int[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = buffer.readVarInt();
+            counts[i] = buffer.readVarInt();
+        }
+        return new ArmoryPagePayload(containerId, page, pages, ordinals, counts, EXTRAS_CODEC.decode(buffer));
+    }
+
+    private void write(RegistryFriendlyByteBuf buffer) {
+        buffer.writeVarInt(containerId);
+        buffer.writeVarInt(page);
+        buffer.writeVarInt(pages);
+        buffer.writeVarInt(ordinals.length);
+        for (int i = 0; i < ordinals.length; i++) {
+            buffer.writeVarInt(ordinals[i]);
+            buffer.writeVarInt(counts[i]);
+        }
+        EXTRAS_CODEC.encode(buffer, extras);
+    }
+
+    public static void handle(ArmoryPagePayload payload, IPayloadContext context) {
+        if (context.player().containerMenu instanceof ArmoryMenu menu && menu.containerId == payload.containerId) {
+            menu.receive(payload);
+        }
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
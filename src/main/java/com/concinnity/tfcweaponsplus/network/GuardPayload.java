@@ -0,0 +1,34 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.combat.GuardTracker;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * New guard state of a player, sent to that player and everyone tracking them when it changes. Always five bytes.
+ */
+public record GuardPayload(int entityId, byte state) implements CustomPacketPayload {
+    public static final Type<GuardPayload> TYPE = new Type<>(ResourceUtils.of("guard"));
+
+    public static final StreamCodec<ByteBuf, GuardPayload> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.INT, GuardPayload::entityId,
+            ByteBufCodecs.BYTE, GuardPayload::state,
+            GuardPayload::new);
+
+    public static void handle(GuardPayload payload, IPayloadContext context) {
+        if (context.player().level().getEntity(payload.entityId) instanceof Player player) {
+            GuardTracker.get(player).receive(payload.state);
+        }
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
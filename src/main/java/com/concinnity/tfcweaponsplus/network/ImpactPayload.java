@@ -0,0 +1,40 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.combat.client.ImpactEffects;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A heavy weapon hit, sent to everyone tracking the entity hit, who turn it into particles, a sound and camera
+ * shake themselves. Its data takes fifteen or sixteen bytes, however many particles it becomes.
+ *
+ * @param variant {@link com.concinnity.tfcweaponsplus.generated.ItemVariants} ordinal of the weapon
+ * @param damageType ordinal of the weapon's {@link com.concinnity.tfcweaponsplus.models.WeaponType.DamageType}
+ * @param intensity how hard the hit was, from 0 to 255
+ */
+public record ImpactPayload(float x, float y, float z, int variant, byte damageType, byte intensity) implements CustomPacketPayload {
+    public static final Type<ImpactPayload> TYPE = new Type<>(ResourceUtils.of("impact"));
+
+    public static final StreamCodec<ByteBuf, ImpactPayload> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.FLOAT, ImpactPayload::x,
+            ByteBufCodecs.FLOAT, ImpactPayload::y,
+            ByteBufCodecs.FLOAT, ImpactPayload::z,
+            ByteBufCodecs.VAR_INT, ImpactPayload::variant,
+            ByteBufCodecs.BYTE, ImpactPayload::damageType,
+            ByteBufCodecs.BYTE, ImpactPayload::intensity,
+            ImpactPayload::new);
+
+    public static void handle(ImpactPayload payload, IPayloadContext context) {
+        ImpactEffects.play(payload);
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,33 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.network.event.RegisterConfigurationTasksEvent;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, bus = EventBusSubscriber.Bus.MOD)
+public final class ModNetworking {
+    private static final String PROTOCOL_VERSION = "1";
+
+    private ModNetworking() {}
+
+    @SubscribeEvent
+    public static void onRegisterPayloadHandlers(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+        registrar.playToClient(SharpnessPayload.TYPE, SharpnessPayload.STREAM_CODEC, SharpnessPayload::handle);
+        registrar.playToClient(GuardPayload.TYPE, GuardPayload.STREAM_CODEC, GuardPayload::handle);
+        registrar.playToClient(ImpactPayload.TYPE, ImpactPayload.STREAM_CODEC, ImpactPayload::handle);
+        registrar.playToClient(SheathPayload.TYPE, SheathPayload.STREAM_CODEC, SheathPayload::handle);
+        registrar.playToClient(ArmoryPagePayload.TYPE, ArmoryPagePayload.STREAM_CODEC, ArmoryPagePayload::handle);
+        registrar.playToServer(ArmoryActionPayload.TYPE, ArmoryActionPayload.STREAM_CODEC, ArmoryActionPayload::handle);
+        registrar.configurationToClient(VariantMatrixPayload.TYPE, VariantMatrixPayload.STREAM_CODEC, VariantMatrixPayload::handle);
+        registrar.configurationToServer(VariantMatrixAckPayload.TYPE, VariantMatrixAckPayload.STREAM_CODEC, VariantMatrixAckPayload::handle);
+    }
+
+    @SubscribeEvent
+    public static void onRegisterConfigurationTasks(RegisterConfigurationTasksEvent event) {
+        event.register(new VariantMatrixTask());
+    }
+}
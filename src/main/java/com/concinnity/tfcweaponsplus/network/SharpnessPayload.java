@@ -0,0 +1,50 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.item.component.Sharpness;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.registration.DataComponentRegistry;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Updates the sharpness of one inventory slot on the client, in place of a full slot resync. The new sharpness is
+ * sent whole rather than as a change: it fits in the same single byte, and a lost or reordered update can't leave
+ * the client off. A full edge removes the component, as it does on the server, so the stack still matches
+ * unworn ones.
+ */
+public record SharpnessPayload(byte slot, Sharpness sharpness) implements CustomPacketPayload {
+    public static final Type<SharpnessPayload> TYPE = new Type<>(ResourceUtils.of("sharpness"));
+
+    public static final StreamCodec<ByteBuf, SharpnessPayload> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.BYTE, SharpnessPayload::slot,
+            Sharpness.STREAM_CODEC, SharpnessPayload::sharpness,
+            SharpnessPayload::new);
+
+    public static void handle(SharpnessPayload payload, IPayloadContext context) {
+        Inventory inventory = context.player().getInventory();
+        if (payload.slot < 0 || payload.slot >= inventory.getContainerSize()) {
+            return;
+        }
+        ItemStack stack = inventory.getItem(payload.slot);
+        if (!(stack.getItem() instanceof AnimatedItem)) {
+            return;
+        }
+        if (payload.sharpness.isFull()) {
+            stack.remove(DataComponentRegistry.SHARPNESS.get());
+        } else {
+            stack.set(DataComponentRegistry.SHARPNESS.get(), payload.sharpness);
+        }
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
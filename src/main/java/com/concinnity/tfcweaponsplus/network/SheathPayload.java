@@ -0,0 +1,37 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.encumbrance.SheathTracker;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The weapon a player now wears on their body, sent to that player and everyone tracking them when it changes.
+ *
+ * @param variant {@link com.concinnity.tfcweaponsplus.generated.ItemVariants} ordinal of the weapon, or
+ * {@link com.concinnity.tfcweaponsplus.encumbrance.SheathState#NONE}
+ */
+public record SheathPayload(int entityId, int variant) implements CustomPacketPayload {
+    public static final Type<SheathPayload> TYPE = new Type<>(ResourceUtils.of("sheath"));
+
+    public static final StreamCodec<ByteBuf, SheathPayload> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.INT, SheathPayload::entityId,
+            ByteBufCodecs.VAR_INT, SheathPayload::variant,
+            SheathPayload::new);
+
+    public static void handle(SheathPayload payload, IPayloadContext context) {
+        if (context.player().level().getEntity(payload.entityId) instanceof Player player) {
+            SheathTracker.get(player).receive(payload.variant);
+        }
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
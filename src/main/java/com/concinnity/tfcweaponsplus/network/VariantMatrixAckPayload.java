@@ -0,0 +1,23 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+public record VariantMatrixAckPayload() implements CustomPacketPayload {
+    public static final VariantMatrixAckPayload INSTANCE = new VariantMatrixAckPayload();
+    public static final Type<VariantMatrixAckPayload> TYPE = new Type<>(ResourceUtils.of("variant_matrix_ack"));
+    public static final StreamCodec<ByteBuf, VariantMatrixAckPayload> STREAM_CODEC = StreamCodec.unit(INSTANCE);
+
+    public static void handle(VariantMatrixAckPayload payload, IPayloadContext context) {
+        context.finishCurrentTask(VariantMatrixTask.TYPE);
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,48 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.config.StartupConfig;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+
+/**
+ * Sent by the server while a client is configuring, carrying the server's enabled variants. The client
+ * disconnects with a readable list of differences if its own startup config disagrees.
+ */
+public record VariantMatrixPayload(BitSet enabled) implements CustomPacketPayload {
+    public static final Type<VariantMatrixPayload> TYPE = new Type<>(ResourceUtils.of("variant_matrix"));
+
+    public static final StreamCodec<ByteBuf, VariantMatrixPayload> STREAM_CODEC = ByteBufCodecs.BYTE_ARRAY
+            .map(bytes -> new VariantMatrixPayload(BitSet.valueOf(bytes)), payload -> payload.enabled.toByteArray());
+
+    public static void handle(VariantMatrixPayload payload, IPayloadContext context) {
+        BitSet difference = (BitSet) payload.enabled.clone();
+        difference.xor(StartupConfig.getEnabled());
+        if (difference.isEmpty()) {
+            context.reply(VariantMatrixAckPayload.INSTANCE);
+            return;
+        }
+
+        StringBuilder serverOnly = new StringBuilder();
+        StringBuilder clientOnly = new StringBuilder();
+        difference.stream().forEach(ordinal -> {
+            StringBuilder target = payload.enabled.get(ordinal) ? serverOnly : clientOnly;
+            target.append(target.isEmpty() ? "" : ", ").append(ItemVariants.registryPath(ordinal));
+        });
+        context.disconnect(Component.translatable("disconnect.tfcweaponsplus.variant_matrix",
+                serverOnly.isEmpty() ? "-" : serverOnly, clientOnly.isEmpty() ? "-" : clientOnly));
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,24 @@
+package com.concinnity.tfcweaponsplus.network;
+
+import com.concinnity.tfcweaponsplus.config.StartupConfig;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.network.ConfigurationTask;
+import net.neoforged.neoforge.network.configuration.ICustomConfigurationTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+public record VariantMatrixTask() implements ICustomConfigurationTask {
+    public static final ConfigurationTask.Type TYPE = new ConfigurationTask.Type(ResourceUtils.of("variant_matrix"));
+
+    @Override
+    public void run(Consumer<CustomPacketPayload> sender) {
+        sender.accept(new VariantMatrixPayload(StartupConfig.getEnabled()));
+    }
+
+    @Override
+    public @NotNull Type type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,212 @@
+package com.concinnity.tfcweaponsplus.profiling;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.living.LivingEquipmentChangeEvent;
+import net.neoforged.neoforge.event.entity.player.AdvancementEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timers for the mod's server-side hooks, switched on by {@code /tfcweaponsplus profile start}. In
+ * singleplayer, where client and server share these counters, the client's frames, swing poses and sheathed weapons
+ * are timed too. While off, {@link #begin()} returns 0 and {@link #end} returns at once, so the hooks only pay a
+ * volatile read. While on, every sample goes into {@link LongAdder}s, which stay cheap when several threads (worldgen
+ * spawns, for one) record at the same time.
+ * <p>
+ * Timings are kept in a log-linear histogram with four buckets per power of two, so percentiles are accurate to
+ * within a quarter of their value.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class ModProfiler {
+    private static final int BUCKETS = 160;
+
+    private static volatile boolean enabled;
+    private static volatile long startedAt;
+
+    private ModProfiler() {}
+
+    public enum Subsystem {
+        /** Damage hooks: sharpness scaling and wear, guard and parry. */
+        COMBAT,
+        /** Weapon hit capsules swept against nearby entities. */
+        MELEE_SWEEP,
+        /** Blocks broken around the one a player mined: felled trees and greathammer squares. */
+        BLOCK_BREAKS,
+        GUARD_TICK,
+        WEAPON_LOAD,
+        /** Weapon load attribute modifiers swapped. */
+        ATTRIBUTES,
+        /** Our items moved into or out of an equipment slot, which reapplies their attribute modifiers. */
+        EQUIPMENT_CHANGES,
+        /**
+         * Criteria of our advancements, and of the recipe advancements for our recipes, granted. Only grants are
+         * counted: the checks leading up to them run in vanilla's criterion triggers, which have no hook to time.
+         */
+        ADVANCEMENT_GRANTS,
+        RECIPE_INDEX,
+        /**
+         * Our items taken from a crafting result. Only the crafts are counted: matching the grid against recipes runs
+         * in vanilla's recipe manager, which has no hook to time.
+         */
+        CRAFTED,
+        MOB_EQUIPMENT,
+        /** Swing animation poses applied to a rendered weapon, on the client. */
+        SWING_POSES,
+        /** Sheathed weapons culled or posed and queued for a rendered player, on the client. */
+        SHEATHED_WEAPONS,
+        /** Client frames, each timed from its start to the start of the next. */
+        FRAMES;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        Subsystem() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public String getSerializedName() {
+            return name().toLowerCase();
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public long samples() {
+            return samples.sum();
+        }
+
+        public long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * @return the upper bound of the bucket holding the given percentile of timed samples, or 0 without samples
+         */
+        public long percentileNanos(double percentile) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long target = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return lowerBound(i + 1);
+                }
+            }
+            return lowerBound(BUCKETS);
+        }
+
+        private void record(long nanos) {
+            count.increment();
+            samples.increment();
+            totalNanos.add(nanos);
+            buckets[bucketOf(nanos)].increment();
+        }
+
+        private void reset() {
+            count.reset();
+            samples.reset();
+            totalNanos.reset();
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void start() {
+        for (Subsystem subsystem : Subsystem.values()) {
+            subsystem.reset();
+        }
+        startedAt = System.nanoTime();
+        enabled = true;
+    }
+
+    public static void stop() {
+        enabled = false;
+    }
+
+    /**
+     * @return nanoseconds since {@link #start()}, or 0 if never started
+     */
+    public static long elapsedNanos() {
+        return startedAt == 0 ? 0 : System.nanoTime() - startedAt;
+    }
+
+    /**
+     * @return the start of a timed section, or 0 while profiling is off
+     */
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void end(Subsystem subsystem, long start) {
+        if (start != 0L) {
+            subsystem.record(System.nanoTime() - start);
+        }
+    }
+
+    public static void count(Subsystem subsystem) {
+        if (enabled) {
+            subsystem.count.increment();
+        }
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < 4) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - 2)) & 3;
+        return Math.min(BUCKETS - 1, exponent * 4 + sub - 4);
+    }
+
+    static long lowerBound(int bucket) {
+        if (bucket < 4) {
+            return bucket;
+        }
+        int exponent = bucket / 4 + 1;
+        return (4L + bucket % 4) << (exponent - 2);
+    }
+
+    @SubscribeEvent
+    public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+        if (enabled && (event.getFrom().getItem() instanceof AnimatedItem || event.getTo().getItem() instanceof AnimatedItem)) {
+            count(Subsystem.EQUIPMENT_CHANGES);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onAdvancementProgress(AdvancementEvent.AdvancementProgressEvent event) {
+        if (enabled && event.getAdvancement().id().getNamespace().equals(TFCWeaponsPlus.MOD_ID)) {
+            count(Subsystem.ADVANCEMENT_GRANTS);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onItemCrafted(PlayerEvent.ItemCraftedEvent event) {
+        if (enabled && event.getCrafting().getItem() instanceof AnimatedItem) {
+            count(Subsystem.CRAFTED);
+        }
+    }
+}
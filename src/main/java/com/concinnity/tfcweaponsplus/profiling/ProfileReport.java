@@ -0,0 +1,115 @@
+package com.concinnity.tfcweaponsplus.profiling;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.equipment.MobEquipment;
+import com.concinnity.tfcweaponsplus.recipe.WeaponRecipeIndex;
+import com.concinnity.tfcweaponsplus.registration.ItemRegistry;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the {@link ModProfiler} counters for {@code /tfcweaponsplus profile dump}, as chat lines and as a JSON
+ * file under {@code <world>/tfcweaponsplus/}.
+ * <p>
+ * Retained heap is not measured: it is estimated from entry counts times the per-entry sizes below, assuming
+ * compressed oops, and reported as {@code estimated_retained_bytes}. The figures are meant for spotting growth between
+ * runs, not as exact sizes.
+ */
+public final class ProfileReport {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /** Item, its deferred holder and registry entries, components and the variant tables. */
+    private static final long BYTES_PER_ITEM = 640;
+    /** A recipe reference, path step or cost in the index: a list slot or map node plus a boxed key or value. */
+    private static final long BYTES_PER_RECIPE_ENTRY = 48;
+    /** A mob equipment table or weapon: array slot plus alias table probability and alias. */
+    private static final long BYTES_PER_EQUIPMENT_ENTRY = 24;
+    /**
+     * A weapon load attachment with its per-slot array, one int for each of the 41 inventory slots (36 main, 4 armour
+     * and the off hand), and a guard state attachment.
+     */
+    private static final long BYTES_PER_PLAYER = 16 + 16 + 4 * 41 + 40;
+
+    private final long durationNanos;
+    private final Map<String, Long> retainedBytes;
+
+    private ProfileReport(long durationNanos, Map<String, Long> retainedBytes) {
+        this.durationNanos = durationNanos;
+        this.retainedBytes = retainedBytes;
+    }
+
+    public static ProfileReport capture(MinecraftServer server) {
+        Map<String, Long> retained = new LinkedHashMap<>();
+        retained.put("items", ItemRegistry.getRegister().getEntries().size() * BYTES_PER_ITEM);
+        retained.put("recipe_index", WeaponRecipeIndex.get(server.overworld()).entryCount() * BYTES_PER_RECIPE_ENTRY);
+        retained.put("mob_equipment", MobEquipment.entryCount() * BYTES_PER_EQUIPMENT_ENTRY);
+        retained.put("player_attachments", server.getPlayerCount() * BYTES_PER_PLAYER);
+        return new ProfileReport(ModProfiler.elapsedNanos(), retained);
+    }
+
+    public List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Profiled %.1f s%s".formatted(durationNanos / 1e9, ModProfiler.isEnabled() ? " (still running)" : ""));
+        for (ModProfiler.Subsystem subsystem : ModProfiler.Subsystem.values()) {
+            long samples = subsystem.samples();
+            if (samples == 0) {
+                lines.add("%s: %d".formatted(subsystem.getSerializedName(), subsystem.count()));
+            } else {
+                lines.add("%s: %d in %.2f ms, p50 %.1f µs, p99 %.1f µs".formatted(subsystem.getSerializedName(), subsystem.count(),
+                        subsystem.totalNanos() / 1e6, subsystem.percentileNanos(0.5) / 1e3, subsystem.percentileNanos(0.99) / 1e3));
+            }
+        }
+        long total = retainedBytes.values().stream().mapToLong(Long::longValue).sum();
+        lines.add("Estimated retained heap: %d KiB %s".formatted(total / 1024, retainedBytes.entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue() / 1024)
+                .toList()));
+        return lines;
+    }
+
+    /**
+     * @return the file written
+     */
+    public Path write(MinecraftServer server) throws IOException {
+        JsonObject root = new JsonObject();
+        root.addProperty("duration_ms", durationNanos / 1_000_000);
+
+        JsonObject subsystems = new JsonObject();
+        for (ModProfiler.Subsystem subsystem : ModProfiler.Subsystem.values()) {
+            JsonObject json = new JsonObject();
+            json.addProperty("count", subsystem.count());
+            json.addProperty("samples", subsystem.samples());
+            json.addProperty("total_nanos", subsystem.totalNanos());
+            json.addProperty("p50_nanos", subsystem.percentileNanos(0.5));
+            json.addProperty("p99_nanos", subsystem.percentileNanos(0.99));
+            subsystems.add(subsystem.getSerializedName(), json);
+        }
+        root.add("subsystems", subsystems);
+
+        JsonObject retained = new JsonObject();
+        retainedBytes.forEach(retained::addProperty);
+        root.add("estimated_retained_bytes", retained);
+
+        Path dir = server.getWorldPath(LevelResource.ROOT).resolve(TFCWeaponsPlus.MOD_ID);
+        Files.createDirectories(dir);
+        Path file = dir.resolve("profile-" + FILE_TIME.format(LocalDateTime.now()) + ".json");
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            GSON.toJson(root, writer);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,206 @@
+package com.concinnity.tfcweaponsplus.profiling;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.IItem;
+import com.concinnity.tfcweaponsplus.models.WeaponType;
+import net.dries007.tfc.util.Metal;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.storage.LevelResource;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.living.LivingDamageEvent;
+import net.neoforged.neoforge.event.entity.living.LivingDeathEvent;
+import net.neoforged.neoforge.event.entity.player.AttackEntityEvent;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Counts how players use each weapon variant, for balancing: swings, kills, damage dealt and durability spent.
+ * Counters are {@link LongAdder}s in one array indexed by metric and {@link ItemVariants} ordinal, so the combat
+ * hooks only do an array lookup and an uncontended add.
+ * <p>
+ * A virtual thread appends what changed since its last run to {@code <world>/tfcweaponsplus/telemetry/
+ * weapons-<date>.csv} every {@link #FLUSH_MINUTES} minutes, and once more when the server stops. One file is kept
+ * per day, for {@link #KEPT_FILES} days. Damage is in hundredths of a point; its damage type is a column, as each
+ * weapon deals one type.
+ * <p>
+ * The server only hears of swings that hit something, so swings are attacks made with the weapon.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+public final class WeaponTelemetry {
+    private static final long FLUSH_MINUTES = 5;
+    private static final int KEPT_FILES = 14;
+    private static final String HEADER = "time,variant,weapon,metal,damage_type,swings,kills,damage_hundredths,durability";
+
+    private enum Metric { SWINGS, KILLS, DAMAGE, DURABILITY }
+
+    private static final LongAdder[] COUNTERS = new LongAdder[Metric.values().length * ItemVariants.COUNT];
+    @Nullable
+    private static volatile Thread exporter;
+
+    static {
+        for (int i = 0; i < COUNTERS.length; i++) {
+            COUNTERS[i] = new LongAdder();
+        }
+    }
+
+    private WeaponTelemetry() {}
+
+    private static void add(Metric metric, int ordinal, long amount) {
+        if (ordinal >= 0) {
+            COUNTERS[metric.ordinal() * ItemVariants.COUNT + ordinal].add(amount);
+        }
+    }
+
+    /**
+     * @return the variant ordinal of a weapon in the main hand of the player causing the damage, or -1
+     */
+    private static int weaponOrdinal(DamageSource source) {
+        if (!(source.getEntity() instanceof ServerPlayer player) || source.getDirectEntity() != player) {
+            return -1;
+        }
+        return weaponOrdinal(player.getMainHandItem());
+    }
+
+    private static int weaponOrdinal(ItemStack stack) {
+        return stack.getItem() instanceof AnimatedItem item && item.getVariant().item().getCategory() == IItem.ItemCategory.WEAPON
+                ? item.getVariant().ordinal() : -1;
+    }
+
+    /**
+     * Called by {@link AnimatedItem} when a player wears a weapon down.
+     */
+    public static void onDurabilitySpent(AnimatedItem item, int amount) {
+        if (item.getVariant().item().getCategory() == IItem.ItemCategory.WEAPON) {
+            add(Metric.DURABILITY, item.getVariant().ordinal(), amount);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onAttackEntity(AttackEntityEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            add(Metric.SWINGS, weaponOrdinal(player.getMainHandItem()), 1);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLivingDamagePost(LivingDamageEvent.Post event) {
+        add(Metric.DAMAGE, weaponOrdinal(event.getSource()), Math.round(event.getNewDamage() * 100));
+    }
+
+    @SubscribeEvent
+    public static void onLivingDeath(LivingDeathEvent event) {
+        add(Metric.KILLS, weaponOrdinal(event.getSource()), 1);
+    }
+
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event) {
+        Path dir = event.getServer().getWorldPath(LevelResource.ROOT).resolve(TFCWeaponsPlus.MOD_ID).resolve("telemetry");
+        exporter = Thread.ofVirtual().name("tfcweaponsplus-telemetry").start(() -> export(dir));
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        Thread thread = exporter;
+        exporter = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void export(Path dir) {
+        long[] exported = new long[COUNTERS.length];
+        for (int i = 0; i < COUNTERS.length; i++) {
+            exported[i] = COUNTERS[i].sum();
+        }
+
+        boolean running = true;
+        while (running) {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(FLUSH_MINUTES));
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            try {
+                flush(dir, exported);
+            } catch (IOException e) {
+                TFCWeaponsPlus.LOGGER.warn("Could not write weapon telemetry to {}", dir, e);
+            }
+        }
+    }
+
+    private static void flush(Path dir, long[] exported) throws IOException {
+        String time = Instant.now().toString();
+        List<String> rows = new ArrayList<>();
+        int metrics = Metric.values().length;
+        for (int ordinal = 0; ordinal < ItemVariants.COUNT; ordinal++) {
+            long[] delta = new long[metrics];
+            boolean changed = false;
+            for (int metric = 0; metric < metrics; metric++) {
+                int index = metric * ItemVariants.COUNT + ordinal;
+                long sum = COUNTERS[index].sum();
+                delta[metric] = sum - exported[index];
+                exported[index] = sum;
+                changed |= delta[metric] != 0;
+            }
+            if (changed && ItemVariants.item(ordinal) instanceof WeaponType weapon) {
+                Metal metal = ItemVariants.metal(ordinal);
+                rows.add("%s,%s,%s,%s,%s,%d,%d,%d,%d".formatted(time, ItemVariants.registryPath(ordinal), weapon.getSerializedName(),
+                        metal == null ? "" : metal.getSerializedName(), weapon.getDamageType().name().toLowerCase(),
+                        delta[Metric.SWINGS.ordinal()], delta[Metric.KILLS.ordinal()], delta[Metric.DAMAGE.ordinal()], delta[Metric.DURABILITY.ordinal()]));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Files.createDirectories(dir);
+        Path file = dir.resolve("weapons-" + LocalDate.now() + ".csv");
+        boolean fresh = Files.notExists(file);
+        try (Writer writer = Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (fresh) {
+                writer.write(HEADER + "\n");
+            }
+            for (String row : rows) {
+                writer.write(row + "\n");
+            }
+        }
+        if (fresh) {
+            prune(dir);
+        }
+    }
+
+    private static void prune(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> old = files.filter(path -> path.getFileName().toString().matches("weapons-.*\\.csv"))
+                    .sorted()
+                    .toList();
+            for (int i = 0; i < old.size() - KEPT_FILES; i++) {
+                Files.deleteIfExists(old.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.concinnity.tfcweaponsplus.profiling.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RenderFrameEvent;
+
+/**
+ * Times each client frame into {@link ModProfiler.Subsystem#FRAMES} while profiling runs, from the start of one frame
+ * to the start of the next, so the time spent waiting on the GPU and for vsync is counted as well.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, value = Dist.CLIENT)
+public final class FrameTimer {
+    private static long frameStart;
+
+    private FrameTimer() {}
+
+    @SubscribeEvent
+    public static void onRenderFramePre(RenderFrameEvent.Pre event) {
+        long start = ModProfiler.begin();
+        ModProfiler.end(ModProfiler.Subsystem.FRAMES, frameStart);
+        frameStart = start;
+    }
+}
@@ -0,0 +1,254 @@
+package com.concinnity.tfcweaponsplus.recipe;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
+import com.concinnity.tfcweaponsplus.models.IItem;
+import com.concinnity.tfcweaponsplus.profiling.ModProfiler;
+import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import net.dries007.tfc.common.recipes.AnvilRecipe;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.CraftingRecipe;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Graph of how our components become weapons, built once per set of loaded recipes. For every weapon it holds the
+ * cheapest path from forged components to the finished weapon: the total metal it takes in mB, the highest anvil
+ * tier on the way and the number of anvil and crafting steps. All queries are map lookups.
+ * <p>
+ * Indexes are kept per {@link RecipeManager} and built as its recipes arrive rather than on the first query: on the
+ * server by a reload listener that runs after the recipes are applied, on the client when recipes are received (see
+ * {@link com.concinnity.tfcweaponsplus.recipe.client.RecipeIndexUpdater}).
+ */
+public final class WeaponRecipeIndex {
+    private static final Map<RecipeManager, WeaponRecipeIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<Item, List<RecipeHolder<?>>> recipesFor = new IdentityHashMap<>();
+    private final Map<Item, List<RecipeHolder<?>>> usesOf = new IdentityHashMap<>();
+    private final Map<Item, Path> paths = new IdentityHashMap<>();
+    private final Map<Item, WeaponCost> costs = new IdentityHashMap<>();
+    private final Map<Item, List<WeaponCost>> costsUsing = new IdentityHashMap<>();
+
+    private WeaponRecipeIndex() {}
+
+    public static WeaponRecipeIndex get(Level level) {
+        return get(level.getRecipeManager(), level.registryAccess());
+    }
+
+    /**
+     * Managers are normally indexed by the time anything asks, the index is only built here for one that was
+     * created some other way.
+     */
+    public static WeaponRecipeIndex get(RecipeManager recipeManager, HolderLookup.Provider registries) {
+        return INDEXES.computeIfAbsent(recipeManager, manager -> timedBuild(manager, registries));
+    }
+
+    /**
+     * Replaces the index of a manager whose recipes have just been loaded.
+     */
+    public static void rebuild(RecipeManager recipeManager, HolderLookup.Provider registries) {
+        INDEXES.put(recipeManager, timedBuild(recipeManager, registries));
+    }
+
+    @Nullable
+    public WeaponCost getCost(Item weapon) {
+        return costs.get(weapon);
+    }
+
+    public Collection<WeaponCost> getCosts() {
+        return costs.values();
+    }
+
+    /**
+     * Costs of the weapons whose cheapest path consumes the given component.
+     */
+    public List<WeaponCost> getCostsUsing(Item component) {
+        return costsUsing.getOrDefault(component, List.of());
+    }
+
+    /**
+     * Recipes of ours that produce the given item.
+     */
+    public List<RecipeHolder<?>> getRecipesFor(Item item) {
+        return recipesFor.getOrDefault(item, List.of());
+    }
+
+    /**
+     * Recipes of ours that take the given item as an ingredient.
+     */
+    public List<RecipeHolder<?>> getUsesOf(Item item) {
+        return usesOf.getOrDefault(item, List.of());
+    }
+
+    /**
+     * @return the number of recipe references, paths and costs held, for size estimates
+     */
+    public int entryCount() {
+        return recipesFor.values().stream().mapToInt(List::size).sum()
+                + usesOf.values().stream().mapToInt(List::size).sum()
+                + paths.size() + costs.size();
+    }
+
+    private static WeaponRecipeIndex timedBuild(RecipeManager recipeManager, HolderLookup.Provider registries) {
+        long start = ModProfiler.begin();
+        WeaponRecipeIndex index = build(recipeManager, registries);
+        ModProfiler.end(ModProfiler.Subsystem.RECIPE_INDEX, start);
+        return index;
+    }
+
+    private static WeaponRecipeIndex build(RecipeManager recipeManager, HolderLookup.Provider registries) {
+        long start = System.nanoTime();
+        WeaponRecipeIndex index = new WeaponRecipeIndex();
+
+        for (RecipeHolder<?> holder : recipeManager.getRecipes()) {
+            if (!(holder.value().getResultItem(registries).getItem() instanceof AnimatedItem result)) {
+                continue;
+            }
+            index.recipesFor.computeIfAbsent(result, item -> new ArrayList<>()).add(holder);
+            for (Ingredient ingredient : holder.value().getIngredients()) {
+                for (ItemStack stack : ingredient.getItems()) {
+                    List<RecipeHolder<?>> uses = index.usesOf.computeIfAbsent(stack.getItem(), item -> new ArrayList<>());
+                    if (!uses.contains(holder)) {
+                        uses.add(holder);
+                    }
+                }
+            }
+        }
+
+        for (Item item : index.recipesFor.keySet()) {
+            if (item instanceof AnimatedItem weapon && weapon.getVariant().item().getCategory() == IItem.ItemCategory.WEAPON) {
+                Path path = index.path(weapon, new HashSet<>());
+                if (path != null) {
+                    WeaponCost cost = new WeaponCost(weapon, path.metalAmount, path.anvilTier, path.steps, List.copyOf(path.components));
+                    index.costs.put(weapon, cost);
+                    path.components.stream().distinct()
+                            .forEach(component -> index.costsUsing.computeIfAbsent(component, c -> new ArrayList<>()).add(cost));
+                }
+            }
+        }
+
+        TFCWeaponsPlus.LOGGER.debug("Indexed {} weapon costs from {} recipes in {} ms",
+                index.costs.size(), index.recipesFor.values().stream().mapToInt(List::size).sum(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * Cheapest way to make {@code item}, by metal then by steps. Items forged on an anvil are leaves costing their own
+     * metal, at the tier their anvil recipe asks for. Items that none of our recipes can make from our own parts, such
+     * as the grip, are leaves with no anvil tier.
+     */
+    @Nullable
+    private Path path(AnimatedItem item, Set<Item> visiting) {
+        Path cached = paths.get(item);
+        if (cached != null) {
+            return cached;
+        }
+        if (!visiting.add(item)) {
+            return null;
+        }
+
+        ResourceUtils.ItemVariant variant = item.getVariant();
+        int metalAmount = variant.item().getFluidAmount();
+        Path best = null;
+
+        for (RecipeHolder<?> holder : getRecipesFor(item)) {
+            Recipe<?> recipe = holder.value();
+            Path candidate;
+            if (recipe instanceof AnvilRecipe anvil) {
+                candidate = new Path(metalAmount, anvil.getMinTier(), 1, List.of(item));
+            } else if (recipe instanceof CraftingRecipe) {
+                candidate = craftingPath(recipe, visiting);
+            } else {
+                continue;
+            }
+            if (candidate != null && (best == null || candidate.isCheaperThan(best))) {
+                best = candidate;
+            }
+        }
+
+        visiting.remove(item);
+        if (best == null) {
+            best = new Path(metalAmount, 0, 0, List.of(item));
+        }
+        paths.put(item, best);
+        return best;
+    }
+
+    /**
+     * Ingredients that aren't ours, such as sticks or leather, add nothing to the cost. A recipe with none of ours,
+     * such as the grip's, makes no path, so the item stays a leaf.
+     */
+    @Nullable
+    private Path craftingPath(Recipe<?> recipe, Set<Item> visiting) {
+        int metalAmount = 0;
+        int anvilTier = 0;
+        int steps = 1;
+        List<Item> components = new ArrayList<>();
+        boolean ours = false;
+
+        for (Ingredient ingredient : recipe.getIngredients()) {
+            ItemStack[] stacks = ingredient.getItems();
+            if (stacks.length == 0) {
+                continue;
+            }
+            if (!(stacks[0].getItem() instanceof AnimatedItem component)) {
+                continue;
+            }
+            ours = true;
+            Path child = path(component, visiting);
+            if (child == null) {
+                return null;
+            }
+            metalAmount += child.metalAmount;
+            anvilTier = Math.max(anvilTier, child.anvilTier);
+            steps += child.steps;
+            components.addAll(child.components);
+        }
+        return ours ? new Path(metalAmount, anvilTier, steps, components) : null;
+    }
+
+    private record Path(int metalAmount, int anvilTier, int steps, List<Item> components) {
+        boolean isCheaperThan(Path other) {
+            return metalAmount != other.metalAmount ? metalAmount < other.metalAmount : steps < other.steps;
+        }
+    }
+
+    /**
+     * @param components the forged (or, for the grip, crafted) parts consumed on the way, one entry per part
+     */
+    public record WeaponCost(Item weapon, int metalAmount, int anvilTier, int steps, List<Item> components) {}
+
+    @EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID)
+    public static final class ServerEvents {
+
+        private ServerEvents() {}
+
+        @SubscribeEvent
+        public static void onAddReloadListeners(AddReloadListenerEvent event) {
+            RecipeManager recipeManager = event.getServerResources().getRecipeManager();
+            HolderLookup.Provider registries = event.getRegistryAccess();
+            // listeners apply in order, and ours are added after the recipe manager
+            event.addListener((ResourceManagerReloadListener) resourceManager -> rebuild(recipeManager, registries));
+        }
+    }
+}
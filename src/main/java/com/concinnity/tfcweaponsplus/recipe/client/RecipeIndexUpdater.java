@@ -0,0 +1,27 @@
+package com.concinnity.tfcweaponsplus.recipe.client;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.recipe.WeaponRecipeIndex;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.RecipesUpdatedEvent;
+
+/**
+ * Rebuilds the client's {@link WeaponRecipeIndex} as soon as the server's recipes are received.
+ */
+@EventBusSubscriber(modid = TFCWeaponsPlus.MOD_ID, value = Dist.CLIENT)
+public final class RecipeIndexUpdater {
+
+    private RecipeIndexUpdater() {}
+
+    @SubscribeEvent
+    public static void onRecipesUpdated(RecipesUpdatedEvent event) {
+        ClientPacketListener connection = Minecraft.getInstance().getConnection();
+        if (connection != null) {
+            WeaponRecipeIndex.rebuild(event.getRecipeManager(), connection.registryAccess());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.concinnity.tfcweaponsplus.registration;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.combat.GuardState;
+import com.concinnity.tfcweaponsplus.encumbrance.SheathState;
+import com.concinnity.tfcweaponsplus.encumbrance.WeaponLoad;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.attachment.AttachmentType;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+import net.neoforged.neoforge.registries.NeoForgeRegistries;
+
+public class AttachmentRegistry {
+    private static final DeferredRegister<AttachmentType<?>> ATTACHMENT_TYPES =
+            DeferredRegister.create(NeoForgeRegistries.ATTACHMENT_TYPES, TFCWeaponsPlus.MOD_ID);
+
+    /**
+     * Not serialized: it is rebuilt from the inventory whenever the player joins a level.
+     */
+    public static final DeferredHolder<AttachmentType<?>, AttachmentType<WeaponLoad>> WEAPON_LOAD =
+            ATTACHMENT_TYPES.register("weapon_load", () -> AttachmentType.builder(WeaponLoad::new).build());
+
+    public static final DeferredHolder<AttachmentType<?>, AttachmentType<GuardState>> GUARD =
+            ATTACHMENT_TYPES.register("guard", () -> AttachmentType.builder(GuardState::new).build());
+
+    /**
+     * Not serialized: it is worked out again from the inventory on the first tick after the player joins.
+     */
+    public static final DeferredHolder<AttachmentType<?>, AttachmentType<SheathState>> SHEATH =
+            ATTACHMENT_TYPES.register("sheath", () -> AttachmentType.builder(SheathState::new).build());
+
+    public static void register(IEventBus eventBus) {
+        ATTACHMENT_TYPES.register(eventBus);
+    }
+}
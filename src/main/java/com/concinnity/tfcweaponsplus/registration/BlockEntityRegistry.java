@@ -0,0 +1,31 @@
+package com.concinnity.tfcweaponsplus.registration;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.block.entity.ArmoryBlockEntity;
+import com.concinnity.tfcweaponsplus.block.entity.WeaponRackBlockEntity;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+public class BlockEntityRegistry {
+    private static final DeferredRegister<BlockEntityType<?>> BLOCK_ENTITIES =
+            DeferredRegister.create(Registries.BLOCK_ENTITY_TYPE, TFCWeaponsPlus.MOD_ID);
+
+    @SuppressWarnings("DataFlowIssue")
+    public static final DeferredHolder<BlockEntityType<?>, BlockEntityType<WeaponRackBlockEntity>> WEAPON_RACK =
+            BLOCK_ENTITIES.register("weapon_rack", () -> BlockEntityType.Builder
+                    .of(WeaponRackBlockEntity::new, BlockRegistry.WEAPON_RACK.get())
+                    .build(null));
+
+    @SuppressWarnings("DataFlowIssue")
+    public static final DeferredHolder<BlockEntityType<?>, BlockEntityType<ArmoryBlockEntity>> ARMORY =
+            BLOCK_ENTITIES.register("armory", () -> BlockEntityType.Builder
+                    .of(ArmoryBlockEntity::new, BlockRegistry.ARMORY.get())
+                    .build(null));
+
+    public static void register(IEventBus eventBus) {
+        BLOCK_ENTITIES.register(eventBus);
+    }
+}
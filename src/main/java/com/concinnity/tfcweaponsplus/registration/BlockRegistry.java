@@ -0,0 +1,45 @@
+package com.concinnity.tfcweaponsplus.registration;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.block.custom.ArmoryBlock;
+import com.concinnity.tfcweaponsplus.block.custom.WeaponRackBlock;
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.material.MapColor;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredBlock;
+import net.neoforged.neoforge.registries.DeferredItem;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+public class BlockRegistry {
+    private static final DeferredRegister.Blocks BLOCKS = DeferredRegister.createBlocks(TFCWeaponsPlus.MOD_ID);
+    private static final DeferredRegister.Items BLOCK_ITEMS = DeferredRegister.createItems(TFCWeaponsPlus.MOD_ID);
+
+    public static final DeferredBlock<WeaponRackBlock> WEAPON_RACK = BLOCKS.register("weapon_rack",
+            () -> new WeaponRackBlock(BlockBehaviour.Properties.of()
+                    .mapColor(MapColor.WOOD)
+                    .strength(2.0f)
+                    .sound(SoundType.WOOD)
+                    .noOcclusion()));
+
+    public static final DeferredItem<BlockItem> WEAPON_RACK_ITEM = BLOCK_ITEMS.registerSimpleBlockItem(WEAPON_RACK, new Item.Properties());
+
+    public static final DeferredBlock<ArmoryBlock> ARMORY = BLOCKS.register("armory",
+            () -> new ArmoryBlock(BlockBehaviour.Properties.of()
+                    .mapColor(MapColor.WOOD)
+                    .strength(2.5f)
+                    .sound(SoundType.WOOD)));
+
+    public static final DeferredItem<BlockItem> ARMORY_ITEM = BLOCK_ITEMS.registerSimpleBlockItem(ARMORY, new Item.Properties());
+
+    public static void register(IEventBus eventBus) {
+        BLOCKS.register(eventBus);
+        BLOCK_ITEMS.register(eventBus);
+    }
+
+    public static DeferredRegister.Items getItemRegister() {
+        return BLOCK_ITEMS;
+    }
+}
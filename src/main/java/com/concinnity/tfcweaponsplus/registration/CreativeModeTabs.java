@@ -36,5 +36,7 @@ public class CreativeModeTabs {
         ItemRegistry.getRegister().getEntries().stream()
             .map(DeferredHolder::get)
             .forEach(output::accept);
+        output.accept(BlockRegistry.WEAPON_RACK_ITEM.get());
+        output.accept(BlockRegistry.ARMORY_ITEM.get());
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.concinnity.tfcweaponsplus.registration;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.item.component.Sharpness;
+import net.minecraft.core.component.DataComponentType;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+public class DataComponentRegistry {
+    private static final DeferredRegister.DataComponents COMPONENTS = DeferredRegister.createDataComponents(TFCWeaponsPlus.MOD_ID);
+
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<Sharpness>> SHARPNESS = COMPONENTS.registerComponentType("sharpness",
+            builder -> builder.persistent(Sharpness.CODEC).networkSynchronized(Sharpness.STREAM_CODEC));
+
+    public static void register(IEventBus eventBus) {
+        COMPONENTS.register(eventBus);
+    }
+}
@@ -0,0 +1,28 @@
+package com.concinnity.tfcweaponsplus.registration;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.entity.WeaponItemEntity;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.MobCategory;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+public class EntityRegistry {
+    private static final DeferredRegister<EntityType<?>> ENTITY_TYPES =
+            DeferredRegister.create(Registries.ENTITY_TYPE, TFCWeaponsPlus.MOD_ID);
+
+    /** Same size, tracking range and update interval as vanilla item entities. */
+    public static final DeferredHolder<EntityType<?>, EntityType<WeaponItemEntity>> WEAPON_ITEM =
+            ENTITY_TYPES.register("weapon_item", () -> EntityType.Builder.<WeaponItemEntity>of(WeaponItemEntity::new, MobCategory.MISC)
+                    .sized(0.25f, 0.25f)
+                    .eyeHeight(0.2125f)
+                    .clientTrackingRange(6)
+                    .updateInterval(20)
+                    .build("weapon_item"));
+
+    public static void register(IEventBus eventBus) {
+        ENTITY_TYPES.register(eventBus);
+    }
+}
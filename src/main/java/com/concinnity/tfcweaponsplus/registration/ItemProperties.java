@@ -1,16 +1,20 @@
 package com.concinnity.tfcweaponsplus.registration;
 
+import com.concinnity.tfcweaponsplus.harvest.AreaMining;
+import com.concinnity.tfcweaponsplus.item.component.WeaponAttributes;
 import com.concinnity.tfcweaponsplus.models.IItem;
 import com.concinnity.tfcweaponsplus.models.WeaponType;
 import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
 
 import net.minecraft.core.component.DataComponents;
-import net.minecraft.world.entity.EquipmentSlotGroup;
+import net.minecraft.tags.BlockTags;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
-import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.item.Item.Properties;
 import net.minecraft.world.item.Tier;
 import net.minecraft.world.item.component.ItemAttributeModifiers;
+import net.minecraft.world.item.component.Tool;
+
+import java.util.List;
 
 public class ItemProperties {
 
@@ -25,25 +29,38 @@ public class ItemProperties {
 
             if (variant.item().getCategory() == IItem.ItemCategory.WEAPON) {
                 props.component(DataComponents.ATTRIBUTE_MODIFIERS,
-                        buildWeaponAttributes((WeaponType) variant.item(), tier));
+                        buildWeaponAttributes(variant, (WeaponType) variant.item(), tier));
+            }
+            if (variant.item() == WeaponType.GREATHAMMER) {
+                props.component(DataComponents.TOOL, createGreathammerTool(tier));
             }
         });
 
         return props;
     }
 
-    private static ItemAttributeModifiers buildWeaponAttributes(WeaponType weapon, Tier tier) {
-        return ItemAttributeModifiers.builder()
-                .add(Attributes.ATTACK_DAMAGE,
-                        createModifier("damage", weapon.getBaseDamage() + tier.getAttackDamageBonus() - 1.0),
-                        EquipmentSlotGroup.MAINHAND)
-                .add(Attributes.ATTACK_SPEED,
-                        createModifier("speed", weapon.getBaseAttackSpeed()),
-                        EquipmentSlotGroup.MAINHAND)
-                .add(Attributes.ENTITY_INTERACTION_RANGE,
-                        createModifier("reach", weapon.getBaseReach()),
-                        EquipmentSlotGroup.MAINHAND)
-                .build();
+    /**
+     * Also registered with {@link WeaponAttributes}, which keeps hotbar changes between alike weapons from being
+     * synced.
+     */
+    private static ItemAttributeModifiers buildWeaponAttributes(ResourceUtils.ItemVariant variant, WeaponType weapon, Tier tier) {
+        return WeaponAttributes.register(variant.ordinal(),
+                createModifier("damage", weapon.getBaseDamage() + tier.getAttackDamageBonus() - 1.0),
+                createModifier("speed", weapon.getBaseAttackSpeed()),
+                createModifier("reach", weapon.getBaseReach()));
+    }
+
+    /**
+     * Greathammers mine rock and soil, three by three at a time (see {@link AreaMining}), so at a third of the
+     * tier's speed.
+     */
+    private static Tool createGreathammerTool(Tier tier) {
+        float speed = tier.getSpeed() / 3;
+        return new Tool(List.of(
+                Tool.Rule.deniesDrops(tier.getIncorrectBlocksForDrops()),
+                Tool.Rule.minesAndDrops(BlockTags.MINEABLE_WITH_PICKAXE, speed),
+                Tool.Rule.minesAndDrops(BlockTags.MINEABLE_WITH_SHOVEL, speed)
+        ), 1.0f, 1);
     }
 
     private static AttributeModifier createModifier(String name, double value) {
@@ -54,4 +71,3 @@ public class ItemProperties {
         );
     }
 }
-
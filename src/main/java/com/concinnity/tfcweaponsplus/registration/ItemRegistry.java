@@ -2,27 +2,74 @@
 package com.concinnity.tfcweaponsplus.registration;
 
 import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.config.StartupConfig;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
 import com.concinnity.tfcweaponsplus.item.custom.AnimatedItem;
 import com.concinnity.tfcweaponsplus.utils.ResourceUtils;
+import com.concinnity.tfcweaponsplus.utils.TFCUtils;
+import net.dries007.tfc.util.Metal;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.world.item.Item;
+import net.neoforged.neoforge.registries.DeferredHolder;
 import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
 
 
 public class ItemRegistry {
     private static final DeferredRegister<Item> ITEMS =
             DeferredRegister.create(Registries.ITEM, "tfcweaponsplus");
 
+    @SuppressWarnings("unchecked")
+    private static final DeferredHolder<Item, AnimatedItem>[] BY_ORDINAL = new DeferredHolder[ItemVariants.COUNT];
+
     public static void registerAll() {
-        ResourceUtils.generateItemVariants().forEach(variant -> {
-            String registryName = variant.getRegistryPath();
+        long start = System.nanoTime();
+        validateMetals();
 
-            ITEMS.register(registryName, () -> new AnimatedItem(
-                    ItemProperties.buildProperties(variant)
+        int registered = 0;
+        for (int ordinal = 0; ordinal < ItemVariants.COUNT; ordinal++) {
+            if (!StartupConfig.isEnabled(ordinal)) {
+                continue;
+            }
+            ResourceUtils.ItemVariant variant = ItemVariants.get(ordinal);
+            BY_ORDINAL[ordinal] = ITEMS.register(ItemVariants.registryPath(ordinal), () -> new AnimatedItem(
+                    ItemProperties.buildProperties(variant),
+                    variant
             ));
-        });
+            registered++;
+        }
+
+        TFCWeaponsPlus.LOGGER.info("Registering {} of {} item variants ({} µs)", registered, ItemVariants.COUNT, (System.nanoTime() - start) / 1000);
+    }
+
+    /**
+     * @param ordinal an index into {@link ItemVariants}
+     * @return the item, or null if the variant is disabled in the startup config
+     */
+    @Nullable
+    public static AnimatedItem get(int ordinal) {
+        DeferredHolder<Item, AnimatedItem> holder = BY_ORDINAL[ordinal];
+        return holder != null ? holder.get() : null;
+    }
+
+    /**
+     * The variant matrix is fixed at build time from gradle.properties, so check it still agrees with the TFC
+     * metals present at runtime.
+     */
+    private static void validateMetals() {
+        for (Metal metal : ItemVariants.metals()) {
+            if (!TFCUtils.isValidMetal(metal)) {
+                throw new IllegalStateException("Metal " + metal.getSerializedName() + " in variant_metals has no tool tier");
+            }
+        }
+        Arrays.stream(Metal.values())
+                .filter(TFCUtils::isValidMetal)
+                .filter(metal -> !ItemVariants.metals().contains(metal))
+                .forEach(metal -> TFCWeaponsPlus.LOGGER.warn("TFC metal {} has a tool tier but no generated variants", metal.getSerializedName()));
     }
     public static DeferredRegister<Item> getRegister() {
         return ITEMS;
@@ -0,0 +1,21 @@
+package com.concinnity.tfcweaponsplus.registration;
+
+import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
+import com.concinnity.tfcweaponsplus.block.menu.ArmoryMenu;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.inventory.MenuType;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.common.extensions.IMenuTypeExtension;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+public class MenuRegistry {
+    private static final DeferredRegister<MenuType<?>> MENUS = DeferredRegister.create(Registries.MENU, TFCWeaponsPlus.MOD_ID);
+
+    public static final DeferredHolder<MenuType<?>, MenuType<ArmoryMenu>> ARMORY =
+            MENUS.register("armory", () -> IMenuTypeExtension.create(ArmoryMenu::new));
+
+    public static void register(IEventBus eventBus) {
+        MENUS.register(eventBus);
+    }
+}
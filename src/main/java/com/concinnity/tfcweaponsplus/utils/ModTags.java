@@ -0,0 +1,12 @@
+package com.concinnity.tfcweaponsplus.utils;
+
+import net.minecraft.tags.ItemTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+
+public class ModTags {
+    public static final TagKey<Item> ITEMS = ItemTags.create(ResourceUtils.of("items"));
+    public static final TagKey<Item> WHETSTONES = ItemTags.create(ResourceUtils.of("whetstones"));
+
+    private ModTags() {}
+}
@@ -1,13 +1,12 @@
 package com.concinnity.tfcweaponsplus.utils;
 
 import com.concinnity.tfcweaponsplus.TFCWeaponsPlus;
-import com.concinnity.tfcweaponsplus.models.ComponentType;
+import com.concinnity.tfcweaponsplus.config.StartupConfig;
+import com.concinnity.tfcweaponsplus.generated.ItemVariants;
 import com.concinnity.tfcweaponsplus.models.IItem;
-import com.concinnity.tfcweaponsplus.models.WeaponType;
 import net.dries007.tfc.util.Metal;
 import net.minecraft.resources.ResourceLocation;
 
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -46,17 +45,12 @@ public class ResourceUtils {
 
     private record RegistryNameParts(String category, String itemName, String variant) {}
 
+    /**
+     * Every variant enabled in the {@link StartupConfig}, in registration order, from the build-time generated
+     * {@link ItemVariants} table.
+     */
     public static Stream<ItemVariant> generateItemVariants() {
-        return Stream.concat(
-                Arrays.stream(WeaponType.values()),
-                Arrays.stream(ComponentType.values())
-        ).flatMap(item ->
-                item == ComponentType.GRIP
-                        ? Stream.of(new ItemVariant(item, Optional.empty()))
-                        : Arrays.stream(Metal.values())
-                        .filter(TFCUtils::isValidMetal)
-                        .map(metal -> new ItemVariant(item, Optional.of(metal)))
-        );
+        return StartupConfig.getEnabled().stream().mapToObj(ItemVariants::get);
     }
 
     public record ItemVariant(IItem item, Optional<Metal> metal) {
@@ -75,8 +69,16 @@ public class ResourceUtils {
                             item.getSerializedName()));
         }
 
+        /**
+         * @return the index of this variant in {@link ItemVariants}, or -1 if it was not generated
+         */
+        public int ordinal() {
+            return ItemVariants.ordinalOf(item, metal.orElse(null));
+        }
+
         public String getRegistryPath() {
-            return getPath("/");
+            int ordinal = ordinal();
+            return ordinal >= 0 ? ItemVariants.registryPath(ordinal) : getPath("/");
         }
 
         public String getTranslationPath() {